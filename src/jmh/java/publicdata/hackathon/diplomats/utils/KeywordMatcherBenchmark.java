@@ -0,0 +1,92 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 보도자료 유형 점수 계산 비교 - 기존 키워드별 indexOf 반복 vs KeywordMatcher 한 번 훑기
+ * ./gradlew jmh 로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatcherBenchmark {
+
+	// PressReleaseService의 유형별 키워드와 같은 구성
+	private static final Map<String, List<String>> TYPE_KEYWORDS = new LinkedHashMap<>();
+
+	static {
+		TYPE_KEYWORDS.put("CLIMATE_ACTION", List.of("기후", "환경", "탄소", "녹색", "지속가능", "에너지", "친환경", "온실가스", "탄소중립"));
+		TYPE_KEYWORDS.put("PEACE_MEDIATION", List.of("평화", "중재", "협상", "대화", "갈등", "해결", "조정", "화해", "북한", "안보"));
+		TYPE_KEYWORDS.put("CULTURAL_DIPLOMACY", List.of("문화", "교류", "전통", "예술", "한류", "축제", "공연", "전시", "K-컬처", "문화협력"));
+		TYPE_KEYWORDS.put("ECONOMIC_TRADE", List.of("경제", "무역", "투자", "협력", "통상", "FTA", "수출", "기업", "경제협력", "비즈니스"));
+		TYPE_KEYWORDS.put("DIGITAL_COMMUNICATION", List.of("디지털", "IT", "기술", "혁신", "온라인", "스마트", "AI", "사이버", "4차산업", "ICT"));
+	}
+
+	private static final List<String> FILLER = List.of("외교부는", "오늘", "양국", "관계", "발전을", "위해", "회의를",
+		"개최하고", "다양한", "분야에서", "논의했다", "장관은", "앞으로도", "긴밀히", "소통해", "나가기로", "했다");
+
+	// 본문 단어 수 (보도자료 본문은 보통 수백 단어)
+	@Param({"100", "400", "1600"})
+	private int words;
+
+	private List<String> types;
+	private KeywordMatcher matcher;
+	private String text;
+
+	@Setup
+	public void setUp() {
+		types = new ArrayList<>(TYPE_KEYWORDS.keySet());
+		matcher = KeywordMatcher.compile(TYPE_KEYWORDS);
+
+		// 단어 다섯 개 중 하나 정도가 키워드가 되도록 섞음
+		List<String> keywords = TYPE_KEYWORDS.values().stream().flatMap(List::stream).toList();
+		Random random = new Random(42);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			List<String> source = random.nextInt(5) == 0 ? keywords : FILLER;
+			builder.append(source.get(random.nextInt(source.size()))).append(' ');
+		}
+		text = builder.toString().toLowerCase();
+	}
+
+	@Benchmark
+	public void indexOfPerKeyword(Blackhole blackhole) {
+		int[] counts = new int[types.size()];
+		for (int i = 0; i < types.size(); i++) {
+			for (String keyword : TYPE_KEYWORDS.get(types.get(i))) {
+				counts[i] += countOccurrences(text, keyword);
+			}
+		}
+		blackhole.consume(counts);
+	}
+
+	@Benchmark
+	public void keywordMatcher(Blackhole blackhole) {
+		blackhole.consume(matcher.countByType(text));
+	}
+
+	private static int countOccurrences(String text, String keyword) {
+		int count = 0;
+		int index = 0;
+		while ((index = text.indexOf(keyword, index)) != -1) {
+			count++;
+			index += keyword.length();
+		}
+		return count;
+	}
+}
@@ -0,0 +1,32 @@
+package publicdata.hackathon.diplomats.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+	private static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+	/**
+	 * MySQL 드라이버가 JDBC 배치를 multi-row INSERT 한 번으로 보내도록 설정 (공공데이터 수집 배치 저장용)
+	 * 설정 파일에서 이미 지정한 경우에는 그 값을 그대로 사용
+	 */
+	@Bean
+	public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource
+					&& !dataSource.getDataSourceProperties().containsKey(REWRITE_BATCHED_STATEMENTS)
+					&& (dataSource.getJdbcUrl() == null || !dataSource.getJdbcUrl().contains(REWRITE_BATCHED_STATEMENTS))) {
+					dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+				}
+				return bean;
+			}
+		};
+	}
+}
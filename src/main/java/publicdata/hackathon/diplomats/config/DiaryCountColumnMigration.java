@@ -0,0 +1,53 @@
+package publicdata.hackathon.diplomats.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일지 조회수/좋아요 컬럼 NOT NULL 전환 (1회성 스키마 마이그레이션)
+ * ddl-auto는 이미 있는 컬럼의 NULL 허용 여부를 바꾸지 않으므로 시작시 한 번 확인하고, 이미 전환된 DB에서는 아무것도 하지 않음
+ * ALTER TABLE은 암묵적으로 커밋되므로 트랜잭션 없이 실행하며, ALTER 권한이 없는 환경에서는 설정으로 끄고 DBA가 직접 적용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiaryCountColumnMigration {
+
+	private static final String COUNT_NULLABLE_COLUMNS =
+		"SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() "
+			+ "AND table_name = 'diary' AND column_name IN ('view_count', 'likes') AND is_nullable = 'YES'";
+	private static final String BACKFILL_NULL_COUNTS =
+		"UPDATE diary SET view_count = COALESCE(view_count, 0), likes = COALESCE(likes, 0) "
+			+ "WHERE view_count IS NULL OR likes IS NULL";
+	private static final String MAKE_COLUMNS_NOT_NULL =
+		"ALTER TABLE diary MODIFY view_count INT NOT NULL DEFAULT 0, MODIFY likes INT NOT NULL DEFAULT 0";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${diplomats.migration.diary-count-columns.enabled:true}")
+	private boolean enabled;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			Long nullableColumns = jdbcTemplate.queryForObject(COUNT_NULLABLE_COLUMNS, Long.class);
+			if (nullableColumns == null || nullableColumns == 0) {
+				return;
+			}
+			int backfilled = jdbcTemplate.update(BACKFILL_NULL_COUNTS);
+			jdbcTemplate.execute(MAKE_COLUMNS_NOT_NULL);
+			log.info("일지 조회수/좋아요 컬럼 NOT NULL 전환 완료 (NULL 보정 {}건)", backfilled);
+		} catch (Exception e) {
+			log.error("일지 조회수/좋아요 컬럼 NOT NULL 전환 실패 (권한이 없으면 수동 적용 필요): {}", e.getMessage());
+		}
+	}
+}
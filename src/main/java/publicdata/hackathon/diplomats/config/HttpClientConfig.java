@@ -0,0 +1,143 @@
+package publicdata.hackathon.diplomats.config;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트
+ * 커넥션 풀을 재사용하고, 연결/응답 대기 시간을 제한해서 외부 API가 느려도 호출한 스레드가 무한정 묶이지 않도록 함
+ * 재시도와 호스트별 동시 요청 제한은 OpenApiItemReader에서 처리
+ */
+@Configuration
+public class HttpClientConfig {
+
+	// 공공데이터포털 제공기관 코드 (요청 경로의 첫 부분)로 API 구분
+	private static final String MOFA_PATH_PREFIX = "/1262000/";
+	private static final String KF_PATH_PREFIX = "/B260004/";
+
+	@Value("${diplomats.http.pool.max-total:50}")
+	private int maxTotalConnections;
+
+	@Value("${diplomats.http.pool.max-per-route:10}")
+	private int maxConnectionsPerRoute;
+
+	@Value("${diplomats.http.connect-timeout-ms:3000}")
+	private long connectTimeoutMs;
+
+	// 풀에서 커넥션을 얻기까지 기다리는 시간
+	@Value("${diplomats.http.connection-request-timeout-ms:5000}")
+	private long connectionRequestTimeoutMs;
+
+	@Value("${diplomats.http.response-timeout-ms:10000}")
+	private long responseTimeoutMs;
+
+	// API별 응답 대기 시간 (외교부 보도자료/ODA, 한국국제교류재단 공공외교 사업)
+	@Value("${diplomats.http.mofa.response-timeout-ms:15000}")
+	private long mofaResponseTimeoutMs;
+
+	@Value("${diplomats.http.kf.response-timeout-ms:30000}")
+	private long kfResponseTimeoutMs;
+
+	@Value("${diplomats.ingestion.feed-threads:3}")
+	private int feedThreads;
+
+	@Value("${diplomats.ingestion.page-threads:8}")
+	private int pageThreads;
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient outboundHttpClient() {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotalConnections)
+			.setMaxConnPerRoute(maxConnectionsPerRoute)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+				.setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+				.setTimeToLive(TimeValue.ofMinutes(5))
+				.build())
+			.build();
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(requestConfig(responseTimeoutMs))
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofSeconds(30))
+			// 재시도는 OpenApiItemReader에서 백오프와 함께 처리
+			.disableAutomaticRetries()
+			.build();
+	}
+
+	@Bean
+	public RestTemplate restTemplate(CloseableHttpClient outboundHttpClient) {
+		Map<String, RequestConfig> apiRequestConfigs = Map.of(
+			MOFA_PATH_PREFIX, requestConfig(mofaResponseTimeoutMs),
+			KF_PATH_PREFIX, requestConfig(kfResponseTimeoutMs)
+		);
+
+		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+			outboundHttpClient) {
+			@Override
+			protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+				String path = uri.getPath() != null ? uri.getPath() : "";
+				for (Map.Entry<String, RequestConfig> entry : apiRequestConfigs.entrySet()) {
+					if (path.startsWith(entry.getKey())) {
+						HttpClientContext context = HttpClientContext.create();
+						context.setRequestConfig(entry.getValue());
+						return context;
+					}
+				}
+				return null;
+			}
+		};
+		return new RestTemplate(requestFactory);
+	}
+
+	/**
+	 * 피드(보도자료, 공공외교 사업, ODA) 단위 수집 스레드
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor openApiFeedExecutor() {
+		return boundedExecutor("openapi-feed-", feedThreads, 10);
+	}
+
+	/**
+	 * 피드 안의 페이지 단위 조회 스레드 - 피드 스레드와 나눠서 피드 작업이 페이지 작업을 기다리다 막히지 않도록 함
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor openApiPageExecutor() {
+		return boundedExecutor("openapi-page-", pageThreads, 200);
+	}
+
+	private RequestConfig requestConfig(long responseTimeout) {
+		return RequestConfig.custom()
+			.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+			.setResponseTimeout(Timeout.ofMilliseconds(responseTimeout))
+			.build();
+	}
+
+	private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		return executor;
+	}
+}
@@ -0,0 +1,30 @@
+package publicdata.hackathon.diplomats.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+	@Value("${diplomats.image.variant-threads:2}")
+	private int variantThreads;
+
+	// 대기열이 가득 차면 변환을 건너뛰고 원본 이미지를 그대로 사용
+	@Value("${diplomats.image.variant-queue-capacity:200}")
+	private int variantQueueCapacity;
+
+	/**
+	 * 업로드 이미지 변환본(썸네일, 중간 크기) 생성 작업용 스레드
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor imageVariantExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("image-variant-");
+		executor.setCorePoolSize(variantThreads);
+		executor.setMaxPoolSize(variantThreads);
+		executor.setQueueCapacity(variantQueueCapacity);
+		return executor;
+	}
+}
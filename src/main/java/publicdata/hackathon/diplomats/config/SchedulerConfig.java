@@ -1,11 +1,16 @@
 package publicdata.hackathon.diplomats.config;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.service.DiaryCommentService;
+import publicdata.hackathon.diplomats.service.DiscussBoardCommentService;
+import publicdata.hackathon.diplomats.service.FreeBoardCommentService;
 import publicdata.hackathon.diplomats.service.MonthlyVoteService;
 
 @Configuration
@@ -15,6 +20,9 @@ import publicdata.hackathon.diplomats.service.MonthlyVoteService;
 public class SchedulerConfig {
 
 	private final MonthlyVoteService monthlyVoteService;
+	private final FreeBoardCommentService freeBoardCommentService;
+	private final DiscussBoardCommentService discussBoardCommentService;
+	private final DiaryCommentService diaryCommentService;
 
 	/**
 	 * 매월 1일 오전 9시에 투표 생성
@@ -38,4 +46,22 @@ public class SchedulerConfig {
 		log.info("투표 상태 체크 실행");
 		// 필요시 투표 마감 로직 추가
 	}
+
+	/**
+	 * 매일 새벽 4시(및 서버 시작 시)에 게시글 댓글 수 보정
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	@EventListener(ApplicationReadyEvent.class)
+	public void reconcileCommentCounts() {
+		try {
+			log.info("게시글 댓글 수 보정 시작");
+			int freeBoardFixed = freeBoardCommentService.reconcileCommentCounts();
+			int discussBoardFixed = discussBoardCommentService.reconcileCommentCounts();
+			int diaryFixed = diaryCommentService.reconcileCommentCounts();
+			log.info("게시글 댓글 수 보정 완료 - 자유게시판: {}건, 토론게시판: {}건, 일지: {}건",
+				freeBoardFixed, discussBoardFixed, diaryFixed);
+		} catch (Exception e) {
+			log.error("게시글 댓글 수 보정 실패: {}", e.getMessage());
+		}
+	}
 }
@@ -0,0 +1,35 @@
+package publicdata.hackathon.diplomats.config;
+
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+import publicdata.hackathon.diplomats.utils.UploadLayout;
+
+/**
+ * /uploads/** 요청을 평면 구조와 하위 디렉토리 구조 양쪽에서 찾음
+ * 구조 이전 중에는 새 URL(uploads/blobs/3f/2a/...)이 아직 평면 위치에 있을 수 있고,
+ * DB에 남아 있는 예전 URL(uploads/freeboard/{uuid}.jpg)은 옮겨진 뒤 하위 디렉토리에서 찾아야 함
+ */
+public class UploadLayoutResourceResolver implements ResourceResolver {
+
+	@Override
+	public Resource resolveResource(HttpServletRequest request, String requestPath,
+		List<? extends Resource> locations, ResourceResolverChain chain) {
+		Resource resource = chain.resolveResource(request, requestPath, locations);
+		if (resource != null) {
+			return resource;
+		}
+		String alternatePath = UploadLayout.alternatePath(requestPath);
+		return alternatePath != null ? chain.resolveResource(request, alternatePath, locations) : null;
+	}
+
+	@Override
+	public String resolveUrlPath(String resourcePath, List<? extends Resource> locations,
+		ResourceResolverChain chain) {
+		return chain.resolveUrlPath(resourcePath, locations);
+	}
+}
@@ -22,9 +22,12 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 업로드된 파일들을 정적 리소스로 서빙
+        // 평면 구조/하위 디렉토리 구조를 모두 찾도록 리졸버 추가 (파일이 옮겨질 수 있어 리졸브 결과는 캐시하지 않음)
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:uploads/")
-                .setCachePeriod(3600);
+                .setCachePeriod(3600)
+                .resourceChain(false)
+                .addResolver(new UploadLayoutResourceResolver());
                 
         // 기본 이미지들도 정적 리소스로 서빙
         registry.addResourceHandler("/uploads/default/**")
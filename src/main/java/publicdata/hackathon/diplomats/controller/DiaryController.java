@@ -27,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.request.CommentRequest;
 import publicdata.hackathon.diplomats.domain.dto.request.CommentUpdateRequest;
 import publicdata.hackathon.diplomats.domain.dto.request.DiaryRequest;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
 import publicdata.hackathon.diplomats.domain.dto.response.ApiResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.CreatePostResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.MonthlyVoteResultResponse;
@@ -64,15 +65,22 @@ public class DiaryController {
 	}
 
 	@GetMapping("/")
-	@Operation(summary = "외교일지 목록 조회", description = "외교일지 목록을 페이징하여 조회합니다.")
+	@Operation(summary = "외교일지 목록 조회", description = "외교일지 목록을 페이징하여 조회합니다. cursor 파라미터를 넘기면 전체 개수 없이 커서 기반으로 조회합니다.")
 	public ResponseEntity<ApiResponse<?>> getDiaries(
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "10") int size,
-		@RequestParam(defaultValue = "latest") String sortBy) {
+		@RequestParam(defaultValue = "latest") String sortBy,
+		@RequestParam(required = false) String cursor) {
 		
 		String currentUserId = SecurityUtils.getCurrentUserIdString();
 		log.info("외교일지 목록 조회: userId={}, page={}, size={}, sortBy={}", currentUserId, page, size, sortBy);
 		
+		if (cursor != null) {
+			// 커서 모드 - page 대신 이전 응답의 nextCursor 사용 (첫 페이지는 빈 값)
+			var diaries = diaryService.getDiariesByCursor(currentUserId, cursor, size, sortBy);
+			return ResponseEntity.ok(ApiResponse.success("외교일지 목록을 조회했습니다.", diaries));
+		}
+		
 		Pageable pageable = PageRequest.of(page, size);
 		var diaries = diaryService.getDiaries(currentUserId, pageable, sortBy);
 		
@@ -133,12 +141,14 @@ public class DiaryController {
 	}
 
 	@PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	@Operation(summary = "외교일지 수정", description = "외교일지를 수정합니다. 이미지는 최대 5장까지 업로드 가능합니다.")
+	@Operation(summary = "외교일지 수정", description = "외교일지를 수정합니다. 이미지는 최대 5장까지 업로드 가능합니다. "
+		+ "manifest 파트(JSON: keepImageIds, deleteImageIds, imageOrder)를 보내면 바뀐 이미지만 반영합니다.")
 	public ResponseEntity<ApiResponse<String>> updateDiary(@PathVariable Long id,
 		@RequestParam("title") String title,
 		@RequestParam("content") String content,
 		@RequestParam("action") String action,
-		@RequestPart(value = "images", required = false) List<MultipartFile> images) {
+		@RequestPart(value = "images", required = false) List<MultipartFile> images,
+		@RequestPart(value = "manifest", required = false) ImageEditManifest manifest) {
 		
 		try {
 			// 이미지 개수 검증
@@ -151,7 +161,7 @@ public class DiaryController {
 			String currentUserId = SecurityUtils.getCurrentUserIdString();
 			log.info("외교일지 수정: userId={}, diaryId={}", currentUserId, id);
 			
-			diaryService.updateDiary(currentUserId, id, title, content, action, images);
+			diaryService.updateDiary(currentUserId, id, title, content, action, images, manifest);
 			return ResponseEntity.ok(ApiResponse.success("일지가 성공적으로 수정되었습니다."));
 		} catch (RuntimeException e) {
 			return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), null));
@@ -25,6 +25,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import publicdata.hackathon.diplomats.domain.dto.request.CommentUpdateRequest;
 import publicdata.hackathon.diplomats.domain.dto.request.DiscussBoardUpdateRequest;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
 import publicdata.hackathon.diplomats.domain.dto.request.DiscussCommentRequest;
 import publicdata.hackathon.diplomats.domain.dto.response.ApiResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.CreatePostResponse;
@@ -70,12 +71,20 @@ public class DiscussBoardController {
 	}
 
 	@GetMapping("/")
-	@Operation(summary = "토론게시글 목록 조회", description = "토론게시글 목록을 페이징하여 조회합니다.")
+	@Operation(summary = "토론게시글 목록 조회", description = "토론게시글 목록을 페이징하여 조회합니다. cursor 파라미터를 넘기면 전체 개수 없이 커서 기반으로 조회합니다.")
 	public ResponseEntity<ApiResponse<?>> getDiscussBoards(Authentication authentication,
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "10") int size,
-		@RequestParam(defaultValue = "latest") String sortBy) {
+		@RequestParam(defaultValue = "latest") String sortBy,
+		@RequestParam(required = false) String cursor) {
 		CustomUserDetails customUserDetails = (CustomUserDetails)authentication.getPrincipal();
+		if (cursor != null) {
+			// 커서 모드 - page 대신 이전 응답의 nextCursor 사용 (첫 페이지는 빈 값)
+			return ResponseEntity.ok(
+				ApiResponse.success("토론게시판 목록 조회 성공",
+					discussBoardService.getDiscussBoardsByCursor(customUserDetails.getUsername(), cursor, size, sortBy))
+			);
+		}
 		Pageable pageable = PageRequest.of(page, size);
 		return ResponseEntity.ok(
 			ApiResponse.success("토론게시판 목록 조회 성공",
@@ -104,12 +113,14 @@ public class DiscussBoardController {
 
 	// 게시글 수정
 	@PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	@Operation(summary = "토론게시글 수정", description = "토론게시글을 수정합니다. 이미지는 최대 3장까지 업로드 가능합니다.")
+	@Operation(summary = "토론게시글 수정", description = "토론게시글을 수정합니다. 이미지는 최대 3장까지 업로드 가능합니다. "
+		+ "manifest 파트(JSON)를 함께 보내면 기존 이미지는 ID로 유지/삭제/재정렬하고 images에는 새 파일만 담습니다.")
 	public ResponseEntity<ApiResponse<String>> updateDiscussBoard(Authentication authentication, @PathVariable Long id,
 		@RequestParam("title") String title,
 		@RequestParam("content") String content,
 		@RequestParam("discussType") DiscussType discussType,
-		@RequestPart(value = "images", required = false) List<MultipartFile> images) {
+		@RequestPart(value = "images", required = false) List<MultipartFile> images,
+		@RequestPart(value = "manifest", required = false) ImageEditManifest manifest) {
 		try {
 			// 이미지 개수 검증
 			if (images != null && images.size() > 3) {
@@ -119,7 +130,8 @@ public class DiscussBoardController {
 			}
 
 			CustomUserDetails customUserDetails = (CustomUserDetails)authentication.getPrincipal();
-			discussBoardService.updateDiscussBoard(customUserDetails.getUsername(), id, title, content, discussType, images);
+			discussBoardService.updateDiscussBoard(customUserDetails.getUsername(), id, title, content, discussType, images,
+				manifest);
 			return ResponseEntity.ok(ApiResponse.success("게시글이 성공적으로 수정되었습니다."));
 		} catch (RuntimeException e) {
 			return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), null));
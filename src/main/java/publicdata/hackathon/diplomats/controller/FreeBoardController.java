@@ -26,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import publicdata.hackathon.diplomats.domain.dto.request.CommentRequest;
 import publicdata.hackathon.diplomats.domain.dto.request.CommentUpdateRequest;
 import publicdata.hackathon.diplomats.domain.dto.request.FreeBoardUpdateRequest;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
 import publicdata.hackathon.diplomats.domain.dto.response.ApiResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.CreatePostResponse;
 import publicdata.hackathon.diplomats.jwt.CustomUserDetails;
@@ -68,12 +69,20 @@ public class FreeBoardController {
 	}
 
 	@GetMapping("/")
-	@Operation(summary = "자유게시판 글 목록 조회", description = "자유게시판 글 목록을 페이징하여 조회합니다.")
+	@Operation(summary = "자유게시판 글 목록 조회", description = "자유게시판 글 목록을 페이징하여 조회합니다. cursor 파라미터를 넘기면 전체 개수 없이 커서 기반으로 조회합니다.")
 	public ResponseEntity<ApiResponse<?>> getFreeBoards(Authentication authentication,
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "10") int size,
-		@RequestParam(defaultValue = "latest") String sortBy) {
+		@RequestParam(defaultValue = "latest") String sortBy,
+		@RequestParam(required = false) String cursor) {
 		CustomUserDetails customUserDetails = (CustomUserDetails)authentication.getPrincipal();
+		if (cursor != null) {
+			// 커서 모드 - page 대신 이전 응답의 nextCursor 사용 (첫 페이지는 빈 값)
+			return ResponseEntity.ok(
+				ApiResponse.success("자유게시판 목록 조회 성공",
+					freeBoardService.getFreeBoardsByCursor(customUserDetails.getUsername(), cursor, size, sortBy))
+			);
+		}
 		Pageable pageable = PageRequest.of(page, size);
 		return ResponseEntity.ok(
 			ApiResponse.success("자유게시판 목록 조회 성공", 
@@ -101,11 +110,13 @@ public class FreeBoardController {
 
 	// 게시글 수정
 	@PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	@Operation(summary = "자유게시판 글 수정", description = "자유게시판 글을 수정합니다. 이미지는 최대 3장까지 업로드 가능합니다.")
+	@Operation(summary = "자유게시판 글 수정", description = "자유게시판 글을 수정합니다. 이미지는 최대 3장까지 업로드 가능합니다. "
+		+ "manifest 파트(JSON)로 유지/삭제할 기존 이미지와 순서를 보내면 새 파일만 images로 올리면 됩니다.")
 	public ResponseEntity<ApiResponse<String>> updateFreeBoard(Authentication authentication, @PathVariable Long id,
 		@RequestParam("title") String title,
 		@RequestParam("content") String content,
-		@RequestPart(value = "images", required = false) List<MultipartFile> images) {
+		@RequestPart(value = "images", required = false) List<MultipartFile> images,
+		@RequestPart(value = "manifest", required = false) ImageEditManifest manifest) {
 		try {
 			// 이미지 개수 검증
 			if (images != null && images.size() > 3) {
@@ -115,7 +126,7 @@ public class FreeBoardController {
 			}
 
 			CustomUserDetails customUserDetails = (CustomUserDetails)authentication.getPrincipal();
-			freeBoardService.updateFreeBoard(customUserDetails.getUsername(), id, title, content, images);
+			freeBoardService.updateFreeBoard(customUserDetails.getUsername(), id, title, content, images, manifest);
 			return ResponseEntity.ok(ApiResponse.success("게시글이 성공적으로 수정되었습니다."));
 		} catch (RuntimeException e) {
 			return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), null));
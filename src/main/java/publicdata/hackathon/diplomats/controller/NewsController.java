@@ -45,6 +45,7 @@ public class NewsController {
 			페이지네이션:
 			- page: 페이지 번호 (0부터 시작)
 			- size: 페이지당 뉴스 개수 (기본 20개)
+			- cursor: 커서 기반 조회 (첫 페이지는 빈 값, 이후 응답의 cursor.nextCursor 전달, 전체 개수는 제공하지 않음)
 			"""
 	)
 	public ResponseEntity<NewsListResponse> getNews(
@@ -54,7 +55,9 @@ public class NewsController {
 		@Parameter(description = "페이지 번호 (0부터 시작)")
 		@RequestParam(defaultValue = "0") int page,
 		@Parameter(description = "페이지당 뉴스 개수")
-		@RequestParam(defaultValue = "20") int size
+		@RequestParam(defaultValue = "20") int size,
+		@Parameter(description = "커서 (커서 기반 조회시 사용, 첫 페이지는 빈 값)")
+		@RequestParam(required = false) String cursor
 	) {
 		try {
 			String userId = null;
@@ -63,7 +66,9 @@ public class NewsController {
 				userId = userDetails.getUsername();
 			}
 			
-			NewsListResponse response = newsService.getNews(filter, page, size, userId);
+			NewsListResponse response = cursor != null
+				? newsService.getNewsByCursor(filter, cursor, size, userId)
+				: newsService.getNews(filter, page, size, userId);
 			return ResponseEntity.ok(response);
 		} catch (Exception e) {
 			NewsListResponse errorResponse = NewsListResponse.builder()
@@ -34,6 +34,16 @@ public class PressReleaseController {
 		}
 	}
 
+	@PostMapping("/sync")
+	public ResponseEntity<String> syncPressReleases() {
+		try {
+			int changedCount = pressReleaseService.syncNewPressReleases();
+			return ResponseEntity.ok("보도자료 동기화 완료: " + changedCount + "개 반영");
+		} catch (Exception e) {
+			return ResponseEntity.badRequest().body("동기화 실패: " + e.getMessage());
+		}
+	}
+
 	@GetMapping("/status")
 	public ResponseEntity<Map<String, Object>> getStatus() {
 		try {
@@ -14,7 +14,6 @@ import publicdata.hackathon.diplomats.domain.dto.response.MyPageResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.UserLevelResponse;
 import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.jwt.CustomUserDetails;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 import publicdata.hackathon.diplomats.service.StampService;
 
 @RestController
@@ -25,7 +24,6 @@ import publicdata.hackathon.diplomats.service.StampService;
 public class StampController {
 
     private final StampService stampService;
-    private final UserRepository userRepository;
 
     @GetMapping("/my-level")
     @Operation(summary = "내 레벨 및 스탬프 정보 조회", 
@@ -33,8 +31,7 @@ public class StampController {
     public ResponseEntity<UserLevelResponse> getMyLevelInfo(Authentication authentication) {
         try {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            User user = userRepository.findByUserId(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = userDetails.getUser(); // 인증 필터에서 이번 요청에 조회한 사용자
 
             UserLevelResponse response = stampService.getUserLevelInfo(user);
             return ResponseEntity.ok(response);
@@ -49,8 +46,7 @@ public class StampController {
     public ResponseEntity<UserLevelResponse> getMyLevelInfoDetailed(Authentication authentication) {
         try {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            User user = userRepository.findByUserId(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = userDetails.getUser(); // 인증 필터에서 이번 요청에 조회한 사용자
 
             UserLevelResponse response = stampService.getUserLevelInfoDetailed(user);
             return ResponseEntity.ok(response);
@@ -65,8 +61,7 @@ public class StampController {
     public ResponseEntity<MyPageResponse> getMyPageInfo(Authentication authentication) {
         try {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            User user = userRepository.findByUserId(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = userDetails.getUser(); // 인증 필터에서 이번 요청에 조회한 사용자
 
             MyPageResponse response = stampService.getMyPageInfo(user);
             return ResponseEntity.ok(response);
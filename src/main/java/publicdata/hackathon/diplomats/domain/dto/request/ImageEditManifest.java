@@ -0,0 +1,24 @@
+package publicdata.hackathon.diplomats.domain.dto.request;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 게시글 수정 시 이미지 변경 내역 (multipart의 "manifest" JSON 파트)
+ * 보내지 않으면 기존처럼 전체 이미지를 새로 올린 것으로 처리
+ *
+ * 예) {"keepImageIds": [12, 10], "deleteImageIds": [11], "imageOrder": ["10", "new:0", "12"]}
+ */
+@Data
+public class ImageEditManifest {
+	// 유지할 기존 이미지 ID - 지정하면 목록에 없는 기존 이미지는 삭제
+	private List<Long> keepImageIds;
+
+	// 삭제할 기존 이미지 ID
+	private List<Long> deleteImageIds;
+
+	// 최종 순서 - 기존 이미지는 "{이미지 ID}", 새 파일은 "new:{images 파트 인덱스}"
+	// 생략한 항목은 기존 순서대로, 그 뒤에 새 파일 순서대로 붙음
+	private List<String> imageOrder;
+}
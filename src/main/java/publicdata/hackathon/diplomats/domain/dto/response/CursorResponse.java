@@ -0,0 +1,35 @@
+package publicdata.hackathon.diplomats.domain.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;
+    private CursorMeta cursor;
+
+    @Data
+    @Builder
+    public static class CursorMeta {
+        private String nextCursor; // 다음 페이지 요청시 그대로 전달 (마지막 페이지면 null)
+        private int pageSize;
+        private boolean hasMore;
+    }
+
+    public static CursorMeta meta(String nextCursor, int pageSize, boolean hasMore) {
+        return CursorMeta.builder()
+                .nextCursor(hasMore ? nextCursor : null)
+                .pageSize(pageSize)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor, int pageSize, boolean hasMore) {
+        return CursorResponse.<T>builder()
+                .content(content)
+                .cursor(meta(nextCursor, pageSize, hasMore))
+                .build();
+    }
+}
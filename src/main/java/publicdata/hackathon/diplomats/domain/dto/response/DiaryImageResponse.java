@@ -9,6 +9,8 @@ public class DiaryImageResponse {
 	private Long id;
 	private String originalFileName;
 	private String imageUrl;    // 이미지 URL (Base64 대신)
+	private String thumbnailUrl; // 목록용 썸네일 URL (변환 전이면 원본 URL)
+	private String mediumUrl;    // 상세 화면용 중간 크기 URL (변환 전이면 원본 URL)
 	private String mimeType;
 	private Integer imageOrder;
 	private Long fileSize;      // 파일 크기 (바이트)
@@ -11,6 +11,7 @@ import lombok.Data;
 public class NewsListResponse {
 	private List<NewsItem> news;
 	private PaginationInfo pagination;
+	private CursorResponse.CursorMeta cursor; // 커서 모드로 조회한 경우에만 채워짐
 	private FilterInfo filter;
 	private String citizenType;        // 사용자의 시민력 유형 (예: CLIMATE_ACTION)
 	private String citizenTypeDisplay; // 시민력 유형 한글명 (예: 기후행동형)
@@ -4,20 +4,32 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 목록 커서 조회용 (정렬 키, id)
+	@Index(name = "idx_diary_created_at_id", columnList = "created_at, id"),
+	@Index(name = "idx_diary_view_count_id", columnList = "view_count, id"),
+	@Index(name = "idx_diary_likes_id", columnList = "likes, id")
+})
+@DynamicUpdate
 @NoArgsConstructor
 @Data
 public class Diary { // 외교 실천 일지
@@ -32,8 +44,12 @@ public class Diary { // 외교 실천 일지
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 
+	// 커서 조회가 (정렬 키, id) 인덱스를 그대로 쓰도록 NULL 없이 0부터 시작 (기존 데이터는 DiaryCountColumnMigration에서 시작시 보정)
+	@Column(nullable = false, columnDefinition = "int default 0")
 	private Integer likes; // 좋아요 개수
+	@Column(nullable = false, columnDefinition = "int default 0")
 	private Integer viewCount; // 조회수
+	private Integer commentCount; // 댓글 수 (댓글 작성/삭제시 함께 갱신)
 
 	@JoinColumn(name = "user_id")
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +68,7 @@ public class Diary { // 외교 실천 일지
 		this.updatedAt = LocalDateTime.now();
 		this.likes = 0;
 		this.viewCount = 0;
+		this.commentCount = 0;
 	}
 
 	/**
@@ -28,6 +28,8 @@ public class DiaryImage {
 	private String savedFileName;    // 저장된 파일명 (UUID)
 	private Long fileSize;           // 파일 크기 (bytes)
 	private String contentType;      // MIME 타입 (image/jpeg, image/png 등)
+	private String thumbnailFileName; // 썸네일 파일명 (아직 생성되지 않았으면 null)
+	private String mediumFileName;    // 중간 크기 변환본 파일명
 
 	@Column(nullable = false)
 	private Integer imageOrder;
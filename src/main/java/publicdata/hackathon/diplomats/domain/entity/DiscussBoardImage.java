@@ -28,6 +28,8 @@ public class DiscussBoardImage {
 	private String savedFileName;    // 저장된 파일명 (UUID)
 	private Long fileSize;           // 파일 크기 (bytes)
 	private String contentType;      // MIME 타입 (image/jpeg, image/png 등)
+	private String thumbnailFileName; // 썸네일 파일명 (커밋 후 백그라운드에서 생성)
+	private String mediumFileName;    // 중간 크기 변환본 파일명
 
 	@Column(nullable = false)
 	private Integer imageOrder;
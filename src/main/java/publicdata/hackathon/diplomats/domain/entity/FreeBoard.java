@@ -4,19 +4,30 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+	// 목록 커서 조회용 (정렬 키, id)
+	@Index(name = "idx_free_board_created_at_id", columnList = "created_at, id"),
+	@Index(name = "idx_free_board_view_count_id", columnList = "view_count, id"),
+	@Index(name = "idx_free_board_likes_id", columnList = "likes, id")
+})
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 public class FreeBoard {
@@ -27,6 +38,7 @@ public class FreeBoard {
 	private String content;
 	private int likes;
 	private int viewCount;
+	private int commentCount; // 댓글 수 (댓글 작성/삭제시 함께 갱신)
 
 	@ManyToOne
 	@JoinColumn(name = "user_id")
@@ -50,6 +62,7 @@ public class FreeBoard {
 		this.updatedAt = LocalDateTime.now();
 		this.likes = 0;
 		this.viewCount = 0;
+		this.commentCount = 0;
 		this.images = new ArrayList<>();
 		this.comments = new ArrayList<>();
 	}
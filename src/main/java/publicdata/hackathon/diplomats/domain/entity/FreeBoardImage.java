@@ -28,6 +28,8 @@ public class FreeBoardImage {
 	private String savedFileName;    // 저장된 파일명 (UUID)
 	private Long fileSize;           // 파일 크기 (bytes)
 	private String contentType;      // MIME 타입 (image/jpeg, image/png 등)
+	private String thumbnailFileName; // 썸네일 변환본 파일명 (업로드 후 비동기 생성, 생성 전에는 null)
+	private String mediumFileName;    // 중간 크기 변환본 파일명
 
 	@Column(nullable = false)
 	private Integer imageOrder;
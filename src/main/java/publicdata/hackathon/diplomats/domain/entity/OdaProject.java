@@ -57,6 +57,13 @@ public class OdaProject {
 	@Column(nullable = false)
 	private Integer matchScore; // 분야 매칭 점수
 
+	// 수집 세대 (투표 후보로 참조 중인 이전 세대는 비활성 상태로 남음)
+	@Column(columnDefinition = "bigint default 0")
+	private Long generation;
+
+	@Column(columnDefinition = "boolean default true")
+	private Boolean active;
+
 	@Column(nullable = false)
 	private LocalDateTime createdAt;
 
@@ -1,22 +1,40 @@
 package publicdata.hackathon.diplomats.domain.entity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import publicdata.hackathon.diplomats.domain.enums.NewsFilter;
 
 @Entity
-@Table(name = "press_releases")
+@Table(name = "press_releases", indexes = {
+	// 뉴스 커서 조회용 (활성 세대, 게시일, id)
+	@Index(name = "idx_press_releases_active_publish_date_id", columnList = "active, publish_date, id"),
+	// 증분 동기화시 이미 저장된 보도자료 확인용
+	@Index(name = "idx_press_releases_source_key", columnList = "source_key")
+})
 @Data
 @NoArgsConstructor
 public class PressRelease {
@@ -34,6 +52,10 @@ public class PressRelease {
 	@Column(length = 1000)
 	private String url;
 
+	// 피드 항목 식별자 - SHA-256(제목 + "|" + url)
+	@Column(length = 64)
+	private String sourceKey;
+
 	private LocalDate publishDate;
 
 	@Column(nullable = false, length = 50)
@@ -41,6 +63,26 @@ public class PressRelease {
 
 	private Integer matchScore;
 
+	// 수집 시점에 계산한 뉴스 필터 (여러 개 가능) - 필터별 목록은 (category, press_release_id) 인덱스로 조회
+	@ElementCollection
+	@CollectionTable(name = "press_release_categories",
+		joinColumns = @JoinColumn(name = "press_release_id"),
+		indexes = @Index(name = "idx_press_release_categories_category", columnList = "category, press_release_id"))
+	@Enumerated(EnumType.STRING)
+	@Column(name = "category", length = 20, nullable = false)
+	private Set<NewsFilter> categories = new HashSet<>();
+
+	// 화면에 표시할 대표 카테고리 (ESG, CLIMATE, CULTURE, ODA, GENERAL)
+	@Column(length = 20)
+	private String category;
+
+	// 수집 세대 - 새 데이터는 비활성 세대로 적재한 뒤 한 번에 활성 세대를 교체 (조회는 active = true만)
+	@Column(columnDefinition = "bigint default 0")
+	private Long generation;
+
+	@Column(columnDefinition = "boolean default true")
+	private Boolean active;
+
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
@@ -68,4 +110,27 @@ public class PressRelease {
 		this.citizenType = citizenType;
 		this.matchScore = matchScore;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 피드 항목 식별자 계산 (DB의 SHA2(CONCAT(title, '|', url), 256)와 같은 값)
+	 */
+	public static String sourceKeyOf(String title, String url) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest((title + "|" + (url != null ? url : "")).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 제목/본문 기준으로 뉴스 필터 분류 (수집시 한 번만 계산)
+	 */
+	public void classifyCategories() {
+		Set<NewsFilter> matched = NewsFilter.classify(title, content);
+		this.categories.clear();
+		this.categories.addAll(matched);
+		this.category = NewsFilter.primaryCategory(matched);
+	}
+}
@@ -60,6 +60,13 @@ public class PublicDiplomacyProgram {
 
 	private Integer matchScore;        // 매칭 점수
 
+	// 수집 세대와 활성 여부 (조회는 활성 세대만)
+	@Column(columnDefinition = "bigint default 0")
+	private Long generation;
+
+	@Column(columnDefinition = "boolean default true")
+	private Boolean active;
+
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
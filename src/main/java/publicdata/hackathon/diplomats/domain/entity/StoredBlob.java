@@ -0,0 +1,32 @@
+package publicdata.hackathon.diplomats.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 기반으로 저장한 업로드 파일 (같은 내용은 한 번만 저장)
+ * 이미지 행(자유게시판/토론게시판/일지)이 참조할 때마다 refCount 증가, 0이 되면 파일 삭제
+ */
+@Entity
+@Table(name = "stored_blobs")
+@Data
+@NoArgsConstructor
+public class StoredBlob {
+	// 파일명 = SHA-256 + 확장자 (예: 3f2a...c9.jpg)
+	@Id
+	@Column(length = 80)
+	private String name;
+
+	private Long fileSize;
+
+	@Column(nullable = false)
+	private Integer refCount;
+
+	private LocalDateTime createdAt;
+}
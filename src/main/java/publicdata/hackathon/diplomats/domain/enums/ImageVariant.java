@@ -0,0 +1,58 @@
+package publicdata.hackathon.diplomats.domain.enums;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 업로드 이미지 변환본 종류 (목록용 썸네일, 상세용 중간 크기)
+ */
+@Getter
+public enum ImageVariant {
+	THUMBNAIL("thumb", 320),
+	MEDIUM("medium", 1024);
+
+	// 변환본 확장자 (투명도가 있으면 png, 없으면 jpg)
+	private static final String[] EXTENSIONS = {".jpg", ".png"};
+
+	private final String suffix;
+	// 긴 변 기준 최대 픽셀
+	private final int maxSize;
+
+	ImageVariant(String suffix, int maxSize) {
+		this.suffix = suffix;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * 원본 저장 파일명 기준 변환본 파일명 (예: {uuid}.jpg -> {uuid}_thumb.jpg)
+	 */
+	public String fileNameFor(String savedFileName, String extension) {
+		int dot = savedFileName.lastIndexOf('.');
+		String baseName = dot > 0 ? savedFileName.substring(0, dot) : savedFileName;
+		return baseName + "_" + suffix + extension;
+	}
+
+	/**
+	 * 이 변환본으로 생길 수 있는 파일명 (확장자별)
+	 */
+	public List<String> candidateFileNamesFor(String savedFileName) {
+		List<String> fileNames = new ArrayList<>();
+		for (String extension : EXTENSIONS) {
+			fileNames.add(fileNameFor(savedFileName, extension));
+		}
+		return fileNames;
+	}
+
+	/**
+	 * 원본 하나에 대해 생길 수 있는 모든 변환본 파일명 (삭제용)
+	 */
+	public static List<String> allFileNamesFor(String savedFileName) {
+		List<String> fileNames = new ArrayList<>();
+		for (ImageVariant variant : values()) {
+			fileNames.addAll(variant.candidateFileNamesFor(savedFileName));
+		}
+		return fileNames;
+	}
+}
@@ -1,6 +1,9 @@
 package publicdata.hackathon.diplomats.domain.enums;
 
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,40 @@ public enum NewsFilter {
 	CULTURE("문화", List.of("문화", "예술", "한류", "K-pop", "축제", "전시", "공연")),
 	ODA("ODA", List.of("ODA", "개발협력", "개발원조", "국제개발", "원조", "지원"));
 
+	// 키워드 매칭에 해당하는 카테고리가 없을 때의 대표 카테고리
+	public static final String GENERAL = "GENERAL";
+
 	private final String displayName;
 	private final List<String> keywords;
-}
\ No newline at end of file
+
+	/**
+	 * 제목/본문에 키워드가 하나라도 포함된 필터 목록 (ALL 제외, 선언 순서 = 우선순위)
+	 */
+	public static Set<NewsFilter> classify(String title, String content) {
+		String text = ((title != null ? title : "") + " " + (content != null ? content : "")).toLowerCase();
+
+		Set<NewsFilter> matched = EnumSet.noneOf(NewsFilter.class);
+		for (NewsFilter filter : values()) {
+			if (filter.keywords == null) {
+				continue;
+			}
+			for (String keyword : filter.keywords) {
+				if (text.contains(keyword.toLowerCase())) {
+					matched.add(filter);
+					break;
+				}
+			}
+		}
+		return matched;
+	}
+
+	/**
+	 * 화면에 표시할 대표 카테고리 - 매칭된 필터 중 우선순위가 가장 높은 것, 없으면 GENERAL
+	 */
+	public static String primaryCategory(Set<NewsFilter> categories) {
+		return categories.stream()
+			.min(Comparator.naturalOrder())
+			.map(NewsFilter::name)
+			.orElse(GENERAL);
+	}
+}
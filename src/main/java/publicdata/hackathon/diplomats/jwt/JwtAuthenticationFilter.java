@@ -47,25 +47,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 			if (jwt != null && !jwt.trim().isEmpty()) {
 				try {
-					// 토큰 유효성 검사
-					if (tokenProvider.validateToken(jwt)) {
-						String userId = tokenProvider.getUserIdFromJWT(jwt);
+					// 토큰 유효성 검사 + 사용자 ID 추출 (한 번만 파싱, 검증된 토큰은 캐시 사용)
+					String userId = tokenProvider.verifyAndGetUserId(jwt);
 
-						User user = customUserDetailsService.findByUserId(userId);
-						if (user == null) {
-							log.warn("User not found for userId: {}", userId);
-							handleAuthenticationError(response, ErrorCode.USER_NOT_FOUND, request.getRequestURI());
-							return;
-						}
-
-						UserDetails userDetails = new CustomUserDetails(user);
-						JwtAuthenticationToken authentication = new JwtAuthenticationToken(userDetails, null,
-							userDetails.getAuthorities());
-						authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-						SecurityContextHolder.getContext().setAuthentication(authentication);
-						
-						log.debug("Successfully authenticated user: {}", userId);
+					User user = customUserDetailsService.findByUserId(userId);
+					if (user == null) {
+						log.warn("User not found for userId: {}", userId);
+						handleAuthenticationError(response, ErrorCode.USER_NOT_FOUND, request.getRequestURI());
+						return;
 					}
+
+					UserDetails userDetails = new CustomUserDetails(user);
+					JwtAuthenticationToken authentication = new JwtAuthenticationToken(userDetails, null,
+						userDetails.getAuthorities());
+					authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+					
+					log.debug("Successfully authenticated user: {}", userId);
 				} catch (CustomException e) {
 					log.error("JWT Authentication failed: {}", e.getMessage());
 					handleAuthenticationError(response, e.getErrorCode(), request.getRequestURI());
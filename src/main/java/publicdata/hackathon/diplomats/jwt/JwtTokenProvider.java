@@ -1,17 +1,32 @@
 package publicdata.hackathon.diplomats.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.exception.CustomException;
@@ -30,6 +45,47 @@ public class JwtTokenProvider {
 	@Value("${spring.jwt.refresh.expiration}")
 	private long refreshExpirationInMs;
 
+	@Value("${diplomats.jwt.verified-cache-size:10000}")
+	private long verifiedCacheSize;
+
+	// 서명 키와 파서는 시작시 한 번만 만들어 재사용 (JwtParser는 불변, 스레드 안전)
+	private Key signingKey;
+	private JwtParser jwtParser;
+
+	// 검증을 통과한 토큰 (토큰 해시 -> 검증 결과), 토큰 만료 시각에 함께 만료
+	private Cache<String, VerifiedToken> verifiedTokens;
+
+	@PostConstruct
+	public void init() {
+		// 기존 setSigningKey(String)과 같이 secret을 Base64로 디코딩해 HS512 키 생성
+		this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(jwtSecret), SignatureAlgorithm.HS512.getJcaName());
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(signingKey)
+			.build();
+		this.verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(verifiedCacheSize)
+			.expireAfter(new Expiry<String, VerifiedToken>() {
+				@Override
+				public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+					long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+					return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+					long currentDuration) {
+					return expireAfterCreate(key, value, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+					long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
+	}
+
 	public String generateToken(User user) {
 		Date now = new Date();
 		Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
@@ -39,7 +95,7 @@ public class JwtTokenProvider {
 			.setIssuedAt(new Date())
 			.setExpiration(expiryDate)
 			.claim("type", "access")
-			.signWith(SignatureAlgorithm.HS512, jwtSecret)
+			.signWith(signingKey, SignatureAlgorithm.HS512)
 			.compact();
 	}
 	
@@ -52,7 +108,7 @@ public class JwtTokenProvider {
 			.setIssuedAt(new Date())
 			.setExpiration(expiryDate)
 			.claim("type", "refresh")
-			.signWith(SignatureAlgorithm.HS512, jwtSecret)
+			.signWith(signingKey, SignatureAlgorithm.HS512)
 			.compact();
 	}
 	
@@ -62,8 +118,7 @@ public class JwtTokenProvider {
 
 	public String getUserIdFromRefreshToken(String refreshToken) {
 		try {
-			Claims claims = Jwts.parser()
-				.setSigningKey(jwtSecret)
+			Claims claims = jwtParser
 				.parseClaimsJws(refreshToken)
 				.getBody();
 
@@ -89,8 +144,7 @@ public class JwtTokenProvider {
 
 	public String getUserIdFromJWT(String token) {
 		try {
-			Claims claims = Jwts.parser()
-				.setSigningKey(jwtSecret)
+			Claims claims = jwtParser
 				.parseClaimsJws(token)
 				.getBody();
 
@@ -113,9 +167,48 @@ public class JwtTokenProvider {
 		}
 	}
 
+	/**
+	 * 토큰 검증과 사용자 ID 추출을 한 번의 파싱으로 처리
+	 * 이미 검증한 토큰은 만료 전까지 캐시된 결과를 사용해 서명 검증을 생략
+	 */
+	public String verifyAndGetUserId(String token) {
+		String cacheKey = hash(token);
+		VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+		if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+			return cached.userId();
+		}
+
+		try {
+			Claims claims = jwtParser
+				.parseClaimsJws(token)
+				.getBody();
+
+			if (claims.getExpiration() != null) {
+				verifiedTokens.put(cacheKey,
+					new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime()));
+			}
+			return claims.getSubject();
+		} catch (ExpiredJwtException e) {
+			log.error("JWT token is expired: {}", e.getMessage());
+			throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+		} catch (UnsupportedJwtException e) {
+			log.error("JWT token is unsupported: {}", e.getMessage());
+			throw new CustomException(ErrorCode.INVALID_TOKEN);
+		} catch (MalformedJwtException e) {
+			log.error("JWT token is malformed: {}", e.getMessage());
+			throw new CustomException(ErrorCode.INVALID_TOKEN);
+		} catch (SignatureException e) {
+			log.error("JWT signature does not match: {}", e.getMessage());
+			throw new CustomException(ErrorCode.INVALID_TOKEN);
+		} catch (IllegalArgumentException e) {
+			log.error("JWT token compact of handler are invalid: {}", e.getMessage());
+			throw new CustomException(ErrorCode.INVALID_TOKEN);
+		}
+	}
+
 	public boolean validateToken(String authToken) {
 		try {
-			Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(authToken);
+			jwtParser.parseClaimsJws(authToken);
 			return true;
 		} catch (ExpiredJwtException e) {
 			log.error("JWT token is expired: {}", e.getMessage());
@@ -139,8 +232,7 @@ public class JwtTokenProvider {
 		try {
 			log.debug("리프레시 토큰 파싱 시작");
 			
-			Claims claims = Jwts.parser()
-				.setSigningKey(jwtSecret)
+			Claims claims = jwtParser
 				.parseClaimsJws(refreshToken)
 				.getBody();
 			
@@ -186,8 +278,7 @@ public class JwtTokenProvider {
 	
 	public boolean isTokenExpired(String token) {
 		try {
-			Claims claims = Jwts.parser()
-				.setSigningKey(jwtSecret)
+			Claims claims = jwtParser
 				.parseClaimsJws(token)
 				.getBody();
 			
@@ -198,4 +289,17 @@ public class JwtTokenProvider {
 			return true;
 		}
 	}
+
+	// 토큰 원문 대신 SHA-256 해시를 캐시 키로 사용 (토큰 전체가 같아야만 캐시 적중)
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not supported", e);
+		}
+	}
+
+	private record VerifiedToken(String userId, long expiresAtMillis) {
+	}
 }
@@ -3,6 +3,8 @@ package publicdata.hackathon.diplomats.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.Diary;
@@ -13,6 +15,10 @@ public interface DiaryCommentRepository extends JpaRepository<DiaryComment, Long
 	
 	List<DiaryComment> findAllByDiary(Diary diary);
 	
+	// 상세 조회용 - 댓글 작성자를 함께 조회
+	@Query("SELECT c FROM DiaryComment c LEFT JOIN FETCH c.commenter WHERE c.diary = :diary ORDER BY c.id")
+	List<DiaryComment> findAllWithCommenterByDiary(@Param("diary") Diary diary);
+	
 	// 댓글 수 조회
 	long countByDiary(Diary diary);
 }
@@ -1,14 +1,19 @@
 package publicdata.hackathon.diplomats.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import publicdata.hackathon.diplomats.domain.entity.Diary;
 import publicdata.hackathon.diplomats.domain.entity.User;
@@ -16,10 +21,31 @@ import publicdata.hackathon.diplomats.domain.entity.User;
 @Repository
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
 	
+	@EntityGraph(attributePaths = {"writer"})
 	Page<Diary> findAllByOrderByCreatedAtDesc(Pageable pageable);
+	@EntityGraph(attributePaths = {"writer"})
 	Page<Diary> findAllByOrderByViewCountDesc(Pageable pageable);
+	@EntityGraph(attributePaths = {"writer"})
 	Page<Diary> findAllByOrderByLikesDesc(Pageable pageable);
 	
+	// 커서 기반 목록 - 마지막으로 본 글의 (정렬 키, id) 다음부터 조회 (OFFSET, COUNT 쿼리 없음)
+	@EntityGraph(attributePaths = {"writer"})
+	@Query("SELECT d FROM Diary d WHERE d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id) " +
+		"ORDER BY d.createdAt DESC, d.id DESC")
+	List<Diary> findPageAfterCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+		Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"writer"})
+	@Query("SELECT d FROM Diary d WHERE d.viewCount < :viewCount OR (d.viewCount = :viewCount AND d.id < :id) " +
+		"ORDER BY d.viewCount DESC, d.id DESC")
+	List<Diary> findPageAfterViewCount(@Param("viewCount") int viewCount, @Param("id") Long id, Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"writer"})
+	@Query("SELECT d FROM Diary d WHERE d.likes < :likes OR (d.likes = :likes AND d.id < :id) " +
+		"ORDER BY d.likes DESC, d.id DESC")
+	List<Diary> findPageAfterLikes(@Param("likes") int likes, @Param("id") Long id, Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"writer"})
 	@Query("SELECT d FROM Diary d WHERE d.createdAt >= :startDate AND d.createdAt <= :endDate " +
 		   "ORDER BY (d.viewCount + d.likes * 2) DESC")
 	List<Diary> findTopDiariesByMonth(@Param("startDate") LocalDateTime startDate, 
@@ -28,4 +54,34 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
 	
 	// 내 일지 조회
 	Page<Diary> findByWriterOrderByCreatedAtDesc(User writer, Pageable pageable);
+	
+	// 댓글 수 증감 (댓글 작성/삭제시 사용)
+	@Modifying
+	@Query("UPDATE Diary d SET d.commentCount = COALESCE(d.commentCount, 0) + :delta WHERE d.id = :id")
+	int updateCommentCount(@Param("id") Long id, @Param("delta") int delta);
+	
+	// 댓글 수 보정용 - id 순으로 다음 배치의 게시글 id 조회
+	@Query("SELECT d.id FROM Diary d WHERE d.id > :lastId ORDER BY d.id")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+	
+	// 댓글 수 보정 - 실제 댓글 수를 UPDATE 안에서 세므로 보정 중에 작성/삭제된 댓글 수를 덮어쓰지 않음
+	// 값이 다른 게시글만 수정하고 수정한 행 수 반환, 배치마다 짧은 트랜잭션으로 실행
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE diary d SET d.comment_count = (SELECT COUNT(*) FROM diary_comment c WHERE c.diary_id = d.id) "
+		+ "WHERE d.id IN (:ids) "
+		+ "AND NOT (d.comment_count <=> (SELECT COUNT(*) FROM diary_comment c WHERE c.diary_id = d.id))", nativeQuery = true)
+	int reconcileCommentCounts(@Param("ids") Collection<Long> ids);
+	
+	// 좋아요 수 증감 (좋아요 토글시 사용, 동시 요청에도 갱신 손실 없음)
+	@Modifying
+	@Query("UPDATE Diary d SET d.likes = d.likes + :delta WHERE d.id = :id")
+	int updateLikes(@Param("id") Long id, @Param("delta") int delta);
+	
+	@Query("SELECT d.likes FROM Diary d WHERE d.id = :id")
+	Integer findLikesById(@Param("id") Long id);
+	
+	// 상세 조회용 - 작성자와 이미지를 함께 조회
+	@EntityGraph(attributePaths = {"writer", "images"})
+	Optional<Diary> findWithDetailsById(Long id);
 }
@@ -3,6 +3,8 @@ package publicdata.hackathon.diplomats.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
@@ -13,6 +15,10 @@ public interface DiscussBoardCommentRepository extends JpaRepository<DiscussBoar
 	
 	List<DiscussBoardComment> findAllByDiscussBoard(DiscussBoard discussBoard);
 	
+	// 상세 조회용 - 댓글 작성자를 함께 조회
+	@Query("SELECT c FROM DiscussBoardComment c LEFT JOIN FETCH c.user WHERE c.discussBoard = :discussBoard ORDER BY c.id")
+	List<DiscussBoardComment> findAllWithUserByDiscussBoard(@Param("discussBoard") DiscussBoard discussBoard);
+	
 	// 댓글 수 조회
 	long countByDiscussBoard(DiscussBoard discussBoard);
 }
@@ -3,6 +3,9 @@ package publicdata.hackathon.diplomats.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
@@ -12,4 +15,9 @@ import publicdata.hackathon.diplomats.domain.entity.DiscussBoardImage;
 public interface DiscussBoardImageRepository extends JpaRepository<DiscussBoardImage, Long> {
 	
 	List<DiscussBoardImage> findAllByDiscussBoard(DiscussBoard discussBoard);
+
+	// 변환본 생성 완료 기록 (이미지가 이미 삭제됐으면 0 반환)
+	@Modifying
+	@Query("UPDATE DiscussBoardImage i SET i.thumbnailFileName = :thumbnail, i.mediumFileName = :medium WHERE i.id = :id")
+	int updateVariants(@Param("id") Long id, @Param("thumbnail") String thumbnail, @Param("medium") String medium);
 }
@@ -1,11 +1,19 @@
 package publicdata.hackathon.diplomats.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
 import publicdata.hackathon.diplomats.domain.entity.User;
@@ -13,15 +21,67 @@ import publicdata.hackathon.diplomats.domain.entity.User;
 @Repository
 public interface DiscussBoardRepository extends JpaRepository<DiscussBoard, Long> {
 	
+	@EntityGraph(attributePaths = {"user"})
 	Page<DiscussBoard> findAllByOrderByCreatedAtDesc(Pageable pageable);
+	@EntityGraph(attributePaths = {"user"})
 	Page<DiscussBoard> findAllByOrderByViewCountDesc(Pageable pageable);
+	@EntityGraph(attributePaths = {"user"})
 	Page<DiscussBoard> findAllByOrderByLikesDesc(Pageable pageable);
 	
+	// 커서 기반 목록 - 마지막으로 본 글의 (정렬 키, id) 다음부터 조회 (OFFSET, COUNT 쿼리 없음)
+	@EntityGraph(attributePaths = {"user"})
+	@Query("SELECT d FROM DiscussBoard d WHERE d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.id < :id) " +
+		"ORDER BY d.createdAt DESC, d.id DESC")
+	List<DiscussBoard> findPageAfterCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+		Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user"})
+	@Query("SELECT d FROM DiscussBoard d WHERE d.viewCount < :viewCount OR (d.viewCount = :viewCount AND d.id < :id) " +
+		"ORDER BY d.viewCount DESC, d.id DESC")
+	List<DiscussBoard> findPageAfterViewCount(@Param("viewCount") int viewCount, @Param("id") Long id, Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user"})
+	@Query("SELECT d FROM DiscussBoard d WHERE d.likes < :likes OR (d.likes = :likes AND d.id < :id) " +
+		"ORDER BY d.likes DESC, d.id DESC")
+	List<DiscussBoard> findPageAfterLikes(@Param("likes") int likes, @Param("id") Long id, Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user"})
 	List<DiscussBoard> findTop3ByOrderByLikesDesc();
 	
 	// 메인페이지용 - 좋아요순 정렬 후 최신순 서브정렬
+	@EntityGraph(attributePaths = {"user"})
 	List<DiscussBoard> findAllByOrderByLikesDescCreatedAtDesc(Pageable pageable);
 	
 	// 내 게시글 조회
 	Page<DiscussBoard> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+	
+	// 댓글 수 증감 (댓글 작성/삭제시 사용)
+	@Modifying
+	@Query("UPDATE DiscussBoard d SET d.commentCount = d.commentCount + :delta WHERE d.id = :id")
+	int updateCommentCount(@Param("id") Long id, @Param("delta") int delta);
+	
+	// 댓글 수 보정용 - id 순으로 다음 배치의 게시글 id 조회
+	@Query("SELECT d.id FROM DiscussBoard d WHERE d.id > :lastId ORDER BY d.id")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+	
+	// 댓글 수 보정 - 실제 댓글 수를 UPDATE 안에서 세므로 보정 중에 작성/삭제된 댓글 수를 덮어쓰지 않음
+	// 값이 다른 게시글만 수정하고 수정한 행 수 반환, 배치마다 짧은 트랜잭션으로 실행
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE discuss_board d SET d.comment_count = (SELECT COUNT(*) FROM discuss_board_comment c WHERE c.discuss_board_id = d.id) "
+		+ "WHERE d.id IN (:ids) "
+		+ "AND NOT (d.comment_count <=> (SELECT COUNT(*) FROM discuss_board_comment c WHERE c.discuss_board_id = d.id))", nativeQuery = true)
+	int reconcileCommentCounts(@Param("ids") Collection<Long> ids);
+	
+	// 좋아요 수 증감 (좋아요 토글시 사용, 동시 요청에도 갱신 손실 없음)
+	@Modifying
+	@Query("UPDATE DiscussBoard d SET d.likes = d.likes + :delta WHERE d.id = :id")
+	int updateLikes(@Param("id") Long id, @Param("delta") int delta);
+	
+	@Query("SELECT d.likes FROM DiscussBoard d WHERE d.id = :id")
+	Integer findLikesById(@Param("id") Long id);
+	
+	// 상세 조회용 - 작성자와 이미지를 함께 조회
+	@EntityGraph(attributePaths = {"user", "images"})
+	Optional<DiscussBoard> findWithDetailsById(Long id);
 }
@@ -3,6 +3,8 @@ package publicdata.hackathon.diplomats.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.FreeBoard;
@@ -12,6 +14,10 @@ import publicdata.hackathon.diplomats.domain.entity.FreeBoardComment;
 public interface FreeBoardCommentRepository extends JpaRepository<FreeBoardComment, Long> {
 	List<FreeBoardComment> findAllByFreeBoard(FreeBoard freeBoard);
 	
+	// 상세 조회용 - 댓글 작성자를 함께 조회
+	@Query("SELECT c FROM FreeBoardComment c LEFT JOIN FETCH c.user WHERE c.freeBoard = :freeBoard ORDER BY c.id")
+	List<FreeBoardComment> findAllWithUserByFreeBoard(@Param("freeBoard") FreeBoard freeBoard);
+	
 	// 댓글 수 조회
 	long countByFreeBoard(FreeBoard freeBoard);
 }
@@ -3,6 +3,9 @@ package publicdata.hackathon.diplomats.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.FreeBoard;
@@ -11,4 +14,9 @@ import publicdata.hackathon.diplomats.domain.entity.FreeBoardImage;
 @Repository
 public interface FreeBoardImageRepository extends JpaRepository<FreeBoardImage, Long> {
 	List<FreeBoardImage> findAllByFreeBoard(FreeBoard freeBoard);
+
+	// 변환본 생성 완료 기록 (이미지가 이미 삭제됐으면 0 반환)
+	@Modifying
+	@Query("UPDATE FreeBoardImage i SET i.thumbnailFileName = :thumbnail, i.mediumFileName = :medium WHERE i.id = :id")
+	int updateVariants(@Param("id") Long id, @Param("thumbnail") String thumbnail, @Param("medium") String medium);
 }
@@ -0,0 +1,297 @@
+package publicdata.hackathon.diplomats.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import publicdata.hackathon.diplomats.domain.entity.OdaProject;
+import publicdata.hackathon.diplomats.domain.entity.PressRelease;
+import publicdata.hackathon.diplomats.domain.entity.PublicDiplomacyProgram;
+import publicdata.hackathon.diplomats.domain.enums.NewsFilter;
+
+/**
+ * 공공데이터 수집용 JDBC 배치 저장소
+ * 엔티티를 한 건씩 save 하지 않고 묶음 단위로 한 번에 INSERT (rewriteBatchedStatements 사용시 multi-row INSERT)
+ * JPA를 거치지 않으므로 created_at/updated_at은 여기서 직접 채움
+ *
+ * 새 데이터는 비활성 세대로 적재하고, 적재가 끝나면 activateGeneration으로 활성 세대를 한 번에 교체
+ * (조회 쿼리는 active = true만 보므로 적재 중인 데이터나 일부만 적재된 상태는 보이지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IngestionBatchRepository {
+
+	private static final String INSERT_PRESS_RELEASE =
+		"INSERT INTO press_releases (title, content, url, source_key, publish_date, citizen_type, match_score, "
+			+ "category, generation, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String UPDATE_PRESS_RELEASE =
+		"UPDATE press_releases SET title = ?, content = ?, url = ?, publish_date = ?, citizen_type = ?, match_score = ?, "
+			+ "category = ?, updated_at = ? WHERE id = ?";
+	private static final String INSERT_PRESS_RELEASE_CATEGORY =
+		"INSERT INTO press_release_categories (press_release_id, category) VALUES (?, ?)";
+	private static final String INSERT_PUBLIC_DIPLOMACY_PROGRAM =
+		"INSERT INTO public_diplomacy_programs (country_name, country_eng_name, country_iso_code, business_name, "
+			+ "business_eng_name, business_purpose, business_target, unit_business, detail_business, business_year, "
+			+ "multi_year_type, citizen_type, match_score, generation, active, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+	private static final String INSERT_ODA_PROJECT =
+		"INSERT INTO oda_project (title, content, url, category, country_name, project_start_date, project_end_date, "
+			+ "budget, publish_date, match_score, generation, active, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 세대 단위로 교체되는 수집 데이터
+	 * referencedBy: 이전 세대라도 다른 데이터가 참조 중이면 삭제하지 않고 비활성 상태로 남김 (스크랩, 투표 후보)
+	 */
+	public enum Dataset {
+		PRESS_RELEASES("press_releases", "news_scraps", "press_release_id"),
+		PUBLIC_DIPLOMACY_PROGRAMS("public_diplomacy_programs", null, null),
+		ODA_PROJECTS("oda_project", "oda_vote_candidate", "oda_project_id");
+
+		private final String table;
+		private final String referencedByTable;
+		private final String referencedByColumn;
+
+		Dataset(String table, String referencedByTable, String referencedByColumn) {
+			this.table = table;
+			this.referencedByTable = referencedByTable;
+			this.referencedByColumn = referencedByColumn;
+		}
+
+		private String unreferenced(String alias) {
+			if (referencedByTable == null) {
+				return "";
+			}
+			return " AND NOT EXISTS (SELECT 1 FROM " + referencedByTable + " r WHERE r." + referencedByColumn
+				+ " = " + alias + ".id)";
+		}
+	}
+
+	/**
+	 * 이번 적재에 사용할 세대 번호
+	 */
+	public long nextGeneration(Dataset dataset) {
+		Long generation = jdbcTemplate.queryForObject(
+			"SELECT COALESCE(MAX(generation), 0) + 1 FROM " + dataset.table, Long.class);
+		return generation != null ? generation : 1L;
+	}
+
+	/**
+	 * 현재 활성 세대 (활성 데이터가 없으면 null)
+	 */
+	public Long activeGeneration(Dataset dataset) {
+		return jdbcTemplate.queryForObject(
+			"SELECT MAX(generation) FROM " + dataset.table + " WHERE active = true", Long.class);
+	}
+
+	/**
+	 * 활성 세대 교체 - 한 번의 UPDATE로 새 세대만 활성화하고 나머지는 비활성화
+	 */
+	public void activateGeneration(Dataset dataset, long generation) {
+		jdbcTemplate.update("UPDATE " + dataset.table + " SET active = (COALESCE(generation, 0) = ?)", generation);
+	}
+
+	/**
+	 * 비활성 세대 삭제 (참조 중인 행은 남김)
+	 *
+	 * @return 삭제한 행 수
+	 */
+	public int deleteInactive(Dataset dataset) {
+		if (dataset == Dataset.PRESS_RELEASES) {
+			jdbcTemplate.update("DELETE c FROM press_release_categories c "
+				+ "JOIN press_releases t ON t.id = c.press_release_id WHERE t.active = false" + dataset.unreferenced("t"));
+		}
+		return jdbcTemplate.update("DELETE FROM " + dataset.table + " WHERE active = false"
+			+ dataset.unreferenced(dataset.table));
+	}
+
+	/**
+	 * 보도자료와 뉴스 필터 카테고리 배치 저장 - 생성된 id는 엔티티에 채워줌
+	 *
+	 * @param active 전체 수집은 false(세대 교체 전까지 숨김), 활성 세대에 바로 추가하는 증분 동기화는 true
+	 */
+	public void insertPressReleases(List<PressRelease> pressReleases, long generation, boolean active) {
+		if (pressReleases.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+
+		List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>)connection -> {
+			try (PreparedStatement ps = connection.prepareStatement(INSERT_PRESS_RELEASE,
+				Statement.RETURN_GENERATED_KEYS)) {
+				for (PressRelease pressRelease : pressReleases) {
+					ps.setString(1, pressRelease.getTitle());
+					ps.setString(2, pressRelease.getContent());
+					ps.setString(3, pressRelease.getUrl());
+					ps.setString(4, pressRelease.getSourceKey());
+					ps.setObject(5, toDate(pressRelease.getPublishDate()), Types.DATE);
+					ps.setString(6, pressRelease.getCitizenType());
+					ps.setObject(7, pressRelease.getMatchScore(), Types.INTEGER);
+					ps.setString(8, pressRelease.getCategory());
+					ps.setLong(9, generation);
+					ps.setBoolean(10, active);
+					ps.setTimestamp(11, Timestamp.valueOf(now));
+					ps.setTimestamp(12, Timestamp.valueOf(now));
+					ps.addBatch();
+				}
+				ps.executeBatch();
+
+				List<Long> generatedIds = new ArrayList<>(pressReleases.size());
+				try (ResultSet keys = ps.getGeneratedKeys()) {
+					while (keys.next()) {
+						generatedIds.add(keys.getLong(1));
+					}
+				}
+				return generatedIds;
+			}
+		});
+		if (ids == null || ids.size() != pressReleases.size()) {
+			throw new IllegalStateException("보도자료 배치 저장 결과가 올바르지 않습니다.");
+		}
+
+		for (int i = 0; i < pressReleases.size(); i++) {
+			PressRelease pressRelease = pressReleases.get(i);
+			pressRelease.setId(ids.get(i));
+			pressRelease.setGeneration(generation);
+			pressRelease.setActive(active);
+			pressRelease.setCreatedAt(now);
+			pressRelease.setUpdatedAt(now);
+		}
+		insertCategories(pressReleases);
+	}
+
+	/**
+	 * 이미 저장된 보도자료 갱신 (id 기준) - 카테고리는 다시 저장
+	 */
+	public void updatePressReleases(List<PressRelease> pressReleases) {
+		if (pressReleases.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Object[]> rows = new ArrayList<>(pressReleases.size());
+		List<Object[]> ids = new ArrayList<>(pressReleases.size());
+		for (PressRelease pressRelease : pressReleases) {
+			rows.add(new Object[] {
+				pressRelease.getTitle(), pressRelease.getContent(), pressRelease.getUrl(),
+				toDate(pressRelease.getPublishDate()), pressRelease.getCitizenType(), pressRelease.getMatchScore(),
+				pressRelease.getCategory(), now, pressRelease.getId()
+			});
+			ids.add(new Object[] {pressRelease.getId()});
+		}
+		jdbcTemplate.batchUpdate(UPDATE_PRESS_RELEASE, rows);
+		jdbcTemplate.batchUpdate("DELETE FROM press_release_categories WHERE press_release_id = ?", ids);
+		insertCategories(pressReleases);
+	}
+
+	/**
+	 * 활성 세대에서 source_key로 저장된 보도자료 조회 (증분 동기화용)
+	 */
+	public Map<String, StoredPressRelease> findActivePressReleasesBySourceKey(Collection<String> sourceKeys) {
+		Map<String, StoredPressRelease> stored = new HashMap<>();
+		if (sourceKeys.isEmpty()) {
+			return stored;
+		}
+		String placeholders = String.join(", ", Collections.nCopies(sourceKeys.size(), "?"));
+		jdbcTemplate.query(
+			"SELECT id, source_key, publish_date FROM press_releases WHERE active = true AND source_key IN ("
+				+ placeholders + ")",
+			rs -> {
+				Date publishDate = rs.getDate("publish_date");
+				stored.put(rs.getString("source_key"),
+					new StoredPressRelease(rs.getLong("id"), publishDate != null ? publishDate.toLocalDate() : null));
+			},
+			sourceKeys.toArray());
+		return stored;
+	}
+
+	/**
+	 * 증분 동기화 워터마크 - 활성 세대에서 가장 최근 게시일 (게시일이 없는 항목은 제외)
+	 */
+	public LocalDate findLatestActivePressReleaseDate() {
+		Date latest = jdbcTemplate.queryForObject(
+			"SELECT MAX(publish_date) FROM press_releases WHERE active = true AND publish_date IS NOT NULL", Date.class);
+		return latest != null ? latest.toLocalDate() : null;
+	}
+
+	/**
+	 * source_key 컬럼 추가 이전에 저장된 보도자료에 식별자 채우기 (PressRelease.sourceKeyOf와 같은 계산)
+	 */
+	public int backfillPressReleaseSourceKeys() {
+		return jdbcTemplate.update("UPDATE press_releases SET source_key = SHA2(CONCAT(title, '|', COALESCE(url, '')), 256) "
+			+ "WHERE source_key IS NULL");
+	}
+
+	public record StoredPressRelease(Long id, LocalDate publishDate) {
+	}
+
+	private void insertCategories(List<PressRelease> pressReleases) {
+		List<Object[]> categoryRows = new ArrayList<>();
+		for (PressRelease pressRelease : pressReleases) {
+			for (NewsFilter category : pressRelease.getCategories()) {
+				categoryRows.add(new Object[] {pressRelease.getId(), category.name()});
+			}
+		}
+		if (!categoryRows.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_PRESS_RELEASE_CATEGORY, categoryRows);
+		}
+	}
+
+	public void insertPublicDiplomacyPrograms(List<PublicDiplomacyProgram> programs, long generation) {
+		if (programs.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Object[]> rows = new ArrayList<>(programs.size());
+		for (PublicDiplomacyProgram program : programs) {
+			rows.add(new Object[] {
+				program.getCountryName(), program.getCountryEngName(), program.getCountryIsoCode(),
+				program.getBusinessName(), program.getBusinessEngName(), program.getBusinessPurpose(),
+				program.getBusinessTarget(), program.getUnitBusiness(), program.getDetailBusiness(),
+				program.getBusinessYear(), program.getMultiYearType(), program.getCitizenType(),
+				program.getMatchScore(), generation, now, now
+			});
+		}
+		jdbcTemplate.batchUpdate(INSERT_PUBLIC_DIPLOMACY_PROGRAM, rows);
+	}
+
+	public void insertOdaProjects(List<OdaProject> projects, long generation) {
+		if (projects.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Object[]> rows = new ArrayList<>(projects.size());
+		for (OdaProject project : projects) {
+			rows.add(new Object[] {
+				project.getTitle(), project.getContent(), project.getUrl(), project.getCategory(),
+				project.getCountryName(), toDate(project.getProjectStartDate()), toDate(project.getProjectEndDate()),
+				project.getBudget(), toDate(project.getPublishDate()), project.getMatchScore(), generation, now, now
+			});
+		}
+		jdbcTemplate.batchUpdate(INSERT_ODA_PROJECT, rows);
+	}
+
+	private Date toDate(LocalDate date) {
+		return date != null ? Date.valueOf(date) : null;
+	}
+}
@@ -1,9 +1,13 @@
 package publicdata.hackathon.diplomats.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.Like;
@@ -24,6 +28,12 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     // 좋아요 삭제 (좋아요 취소용)
     void deleteByUserAndTargetTypeAndTargetId(User user, String targetType, Long targetId);
     
+    // 좋아요 삭제 - 단일 DELETE 문으로 처리하고 삭제된 행 수 반환 (0이면 좋아요를 누르지 않은 상태)
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE user_id = :userId AND target_type = :targetType AND target_id = :targetId",
+        nativeQuery = true)
+    int deleteLike(@Param("userId") Long userId, @Param("targetType") String targetType, @Param("targetId") Long targetId);
+    
     // 특정 대상과 관련된 모든 좋아요 삭제 (게시글 삭제시 사용)
     void deleteByTargetTypeAndTargetId(String targetType, Long targetId);
     
@@ -32,4 +42,11 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     
     // 사용자가 좋아요를 눌렀는지 확인
     boolean existsByUserAndTargetTypeAndTargetId(User user, String targetType, Long targetId);
+    
+    // 목록 페이지용 - 사용자가 좋아요를 누른 대상 ID들을 한 번에 조회
+    List<LikedTarget> findByUserAndTargetTypeAndTargetIdIn(User user, String targetType, Collection<Long> targetIds);
+    
+    interface LikedTarget {
+        Long getTargetId();
+    }
 }
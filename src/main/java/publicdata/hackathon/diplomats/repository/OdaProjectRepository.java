@@ -11,10 +11,12 @@ import publicdata.hackathon.diplomats.domain.entity.OdaProject;
 @Repository
 public interface OdaProjectRepository extends JpaRepository<OdaProject, Long> {
 	
-	// 투표용 - 각 분야별 상위 프로젝트 조회
-	List<OdaProject> findTop5ByCategoryOrderByMatchScoreDescPublishDateDesc(String category);
+	// 투표용 - 각 분야별 상위 프로젝트 조회 (활성 세대만)
+	List<OdaProject> findTop5ByCategoryAndActiveTrueOrderByMatchScoreDescPublishDateDesc(String category);
 	
 	// 상태 조회용 - 분야별 카운트
-	@Query("SELECT o.category, COUNT(o) FROM OdaProject o GROUP BY o.category")
+	@Query("SELECT o.category, COUNT(o) FROM OdaProject o WHERE o.active = true GROUP BY o.category")
 	List<Object[]> countByEachCategory();
+
+	long countByActiveTrue();
 }
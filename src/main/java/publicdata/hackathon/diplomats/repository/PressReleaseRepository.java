@@ -1,5 +1,6 @@
 package publicdata.hackathon.diplomats.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,53 +12,67 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import publicdata.hackathon.diplomats.domain.entity.PressRelease;
+import publicdata.hackathon.diplomats.domain.enums.NewsFilter;
 
 @Repository
 public interface PressReleaseRepository extends JpaRepository<PressRelease, Long> {
 
-	List<PressRelease> findTop5ByCitizenTypeOrderByMatchScoreDescPublishDateDesc(String citizenType);
+	// 조회용 메서드는 모두 활성 세대(active = true)만 대상으로 함 - 적재 중인 다음 세대, 스크랩으로 남은 이전 세대 제외
+
+	List<PressRelease> findTop5ByCitizenTypeAndActiveTrueOrderByMatchScoreDescPublishDateDesc(String citizenType);
 
 	void deleteByCitizenType(String citizenType);
 
-	@Query("SELECT pr.citizenType, COUNT(pr) FROM PressRelease pr GROUP BY pr.citizenType")
+	@Query("SELECT pr.citizenType, COUNT(pr) FROM PressRelease pr WHERE pr.active = true GROUP BY pr.citizenType")
 	List<Object[]> countByEachType();
 
+	long countByActiveTrue();
+
 	// PressReleaseRepository.java에 추가
-	Optional<PressRelease> findTopByOrderByCreatedAtDesc();
+	Optional<PressRelease> findTopByActiveTrueOrderByCreatedAtDesc();
 
-	List<PressRelease> findTop3ByCitizenTypeOrderByMatchScoreDesc(String citizenType);
+	List<PressRelease> findTop3ByCitizenTypeAndActiveTrueOrderByMatchScoreDesc(String citizenType);
 
-	Page<PressRelease> findAllByOrderByPublishDateDescCreatedAtDesc(Pageable pageable);
+	Page<PressRelease> findAllByActiveTrueOrderByPublishDateDescCreatedAtDesc(Pageable pageable);
+
+	// 커서 기반 목록 - 마지막으로 본 뉴스의 (게시일, id) 다음부터 조회 (OFFSET, COUNT 쿼리 없음)
+	@Query("SELECT pr FROM PressRelease pr WHERE pr.active = true AND " +
+		"(pr.publishDate < :publishDate OR (pr.publishDate = :publishDate AND pr.id < :id)) " +
+		"ORDER BY pr.publishDate DESC, pr.id DESC")
+	List<PressRelease> findPageAfterPublishDate(@Param("publishDate") LocalDate publishDate, @Param("id") Long id,
+		Pageable pageable);
 
 	// 제목이나 내용에 특정 키워드가 포함된 뉴스 조회
-	@Query("SELECT pr FROM PressRelease pr WHERE " +
+	@Query("SELECT pr FROM PressRelease pr WHERE pr.active = true AND (" +
 		"LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-		"LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+		"LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
 		"ORDER BY pr.publishDate DESC, pr.createdAt DESC")
 	Page<PressRelease> findByKeywordContaining(@Param("keyword") String keyword, Pageable pageable);
 
-	// 여러 키워드 중 하나라도 포함된 뉴스 조회 (수정된 버전)
-	@Query("SELECT DISTINCT pr FROM PressRelease pr WHERE " +
-		"(:keyword1 IS NULL OR LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword1, '%')) OR LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword1, '%'))) OR " +
-		"(:keyword2 IS NULL OR LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword2, '%')) OR LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword2, '%'))) OR " +
-		"(:keyword3 IS NULL OR LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword3, '%')) OR LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword3, '%'))) OR " +
-		"(:keyword4 IS NULL OR LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword4, '%')) OR LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword4, '%'))) OR " +
-		"(:keyword5 IS NULL OR LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword5, '%')) OR LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword5, '%'))) " +
-		"ORDER BY pr.publishDate DESC, pr.createdAt DESC")
-	Page<PressRelease> findByKeywordsContaining(
-		@Param("keyword1") String keyword1,
-		@Param("keyword2") String keyword2,
-		@Param("keyword3") String keyword3,
-		@Param("keyword4") String keyword4,
-		@Param("keyword5") String keyword5,
+	// 필터별 뉴스 조회 - 수집시 저장한 카테고리 기준 (카테고리 인덱스 사용)
+	@Query(value = "SELECT pr FROM PressRelease pr JOIN pr.categories c WHERE c = :category AND pr.active = true " +
+		"ORDER BY pr.publishDate DESC, pr.createdAt DESC",
+		countQuery = "SELECT COUNT(pr) FROM PressRelease pr JOIN pr.categories c " +
+			"WHERE c = :category AND pr.active = true")
+	Page<PressRelease> findByCategory(@Param("category") NewsFilter category, Pageable pageable);
+
+	// 필터 + 커서 기반 목록
+	@Query("SELECT pr FROM PressRelease pr JOIN pr.categories c WHERE c = :category AND pr.active = true " +
+		"AND (pr.publishDate < :publishDate OR (pr.publishDate = :publishDate AND pr.id < :id)) " +
+		"ORDER BY pr.publishDate DESC, pr.id DESC")
+	List<PressRelease> findPageByCategoryAfterPublishDate(
+		@Param("category") NewsFilter category,
+		@Param("publishDate") LocalDate publishDate,
+		@Param("id") Long id,
 		Pageable pageable
 	);
 
-	// 특정 키워드 포함 개수 조회
-	@Query("SELECT COUNT(pr) FROM PressRelease pr WHERE " +
-		"LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-		"LOWER(pr.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-	long countByKeywordContaining(@Param("keyword") String keyword);
+	// 필터별 개수
+	@Query("SELECT c, COUNT(pr) FROM PressRelease pr JOIN pr.categories c WHERE pr.active = true GROUP BY c")
+	List<Object[]> countByEachCategory();
+
+	// 카테고리 컬럼 추가 이전에 저장된 보도자료 (한 번만 분류)
+	List<PressRelease> findByCategoryIsNull();
 
-	List<PressRelease> findAllByOrderByPublishDateDesc(Pageable pageable);
-}
\ No newline at end of file
+	List<PressRelease> findAllByActiveTrueOrderByPublishDateDesc(Pageable pageable);
+}
@@ -12,13 +12,16 @@ import publicdata.hackathon.diplomats.domain.entity.PublicDiplomacyProgram;
 @Repository
 public interface PublicDiplomacyProgramRepository extends JpaRepository<PublicDiplomacyProgram, Long> {
 
-	List<PublicDiplomacyProgram> findTop5ByCitizenTypeOrderByMatchScoreDescBusinessYearDesc(String citizenType);
+	// 조회는 활성 세대만
+	List<PublicDiplomacyProgram> findTop5ByCitizenTypeAndActiveTrueOrderByMatchScoreDescBusinessYearDesc(String citizenType);
 
-	@Query("SELECT p.citizenType, COUNT(p) FROM PublicDiplomacyProgram p GROUP BY p.citizenType")
+	@Query("SELECT p.citizenType, COUNT(p) FROM PublicDiplomacyProgram p WHERE p.active = true GROUP BY p.citizenType")
 	List<Object[]> countByEachType();
 
-	List<PublicDiplomacyProgram> findTop3ByCitizenTypeOrderByMatchScoreDesc(String citizenType);
+	long countByActiveTrue();
 
-	Optional<PublicDiplomacyProgram> findTopByOrderByCreatedAtDesc();
-	Optional<PublicDiplomacyProgram> findTopByOrderByBusinessYearDesc();
+	List<PublicDiplomacyProgram> findTop3ByCitizenTypeAndActiveTrueOrderByMatchScoreDesc(String citizenType);
+
+	Optional<PublicDiplomacyProgram> findTopByActiveTrueOrderByCreatedAtDesc();
+	Optional<PublicDiplomacyProgram> findTopByActiveTrueOrderByBusinessYearDesc();
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package publicdata.hackathon.diplomats.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import publicdata.hackathon.diplomats.domain.entity.StoredBlob;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+	// 참조 추가 - 처음이면 행 생성, 이미 있으면 refCount + 1 (동시 업로드에도 한 문장으로 처리)
+	@Modifying
+	@Query(value = "INSERT INTO stored_blobs (name, file_size, ref_count, created_at) VALUES (:name, :fileSize, 1, NOW()) "
+		+ "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+	int acquire(@Param("name") String name, @Param("fileSize") long fileSize);
+
+	// 참조 수를 바꾸지 않고 행만 잠금 - 행이 없으면 참조 0으로 만들어서 잠금 (롤백된 업로드 정리용)
+	@Modifying
+	@Query(value = "INSERT INTO stored_blobs (name, file_size, ref_count, created_at) VALUES (:name, :fileSize, 0, NOW()) "
+		+ "ON DUPLICATE KEY UPDATE ref_count = ref_count", nativeQuery = true)
+	int lockOrCreate(@Param("name") String name, @Param("fileSize") long fileSize);
+
+	@Modifying
+	@Query("UPDATE StoredBlob b SET b.refCount = b.refCount - 1 WHERE b.name = :name AND b.refCount > 0")
+	int decrementRefCount(@Param("name") String name);
+
+	// 더 이상 참조가 없으면 행 삭제 (1이면 파일도 삭제해야 함)
+	@Modifying
+	@Query("DELETE FROM StoredBlob b WHERE b.name = :name AND b.refCount <= 0")
+	int deleteIfUnreferenced(@Param("name") String name);
+}
@@ -3,10 +3,20 @@ package publicdata.hackathon.diplomats.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
 
 import publicdata.hackathon.diplomats.domain.entity.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByUserId(String userId);
 	boolean existsByUserId(String userId);
+
+	// 스탬프 지급용 - 동시에 지급되어도 스탬프 수가 덮어써지지 않도록 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT u FROM User u WHERE u.id = :id")
+	Optional<User> findByIdForUpdate(@Param("id") Long id);
 }
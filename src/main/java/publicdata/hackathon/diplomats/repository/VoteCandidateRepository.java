@@ -2,6 +2,7 @@ package publicdata.hackathon.diplomats.repository;
 
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,8 +15,10 @@ import publicdata.hackathon.diplomats.domain.entity.VoteCandidate;
 @Repository
 public interface VoteCandidateRepository extends JpaRepository<VoteCandidate, Long> {
 	
+	@EntityGraph(attributePaths = {"diary", "diary.writer"})
 	List<VoteCandidate> findByMonthlyVoteOrderByRanking(MonthlyVote monthlyVote);
 	
+	@EntityGraph(attributePaths = {"diary", "diary.writer"})
 	@Query("SELECT vc FROM VoteCandidate vc WHERE vc.monthlyVote = :monthlyVote ORDER BY vc.voteCount DESC, vc.ranking ASC")
 	List<VoteCandidate> findByMonthlyVoteOrderByVoteCountDesc(@Param("monthlyVote") MonthlyVote monthlyVote);
 	
@@ -28,6 +28,7 @@ import publicdata.hackathon.diplomats.repository.UserVoteRepository;
 public class AuthService {
 
 	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtTokenProvider jwtTokenProvider;
 	
@@ -207,6 +208,7 @@ public class AuthService {
 			
 			// 사용자 삭제
 			userRepository.delete(user);
+			userCacheService.evict(userId);
 			
 			log.info("회원 탈퇴 완료: userId={}", userId);
 			
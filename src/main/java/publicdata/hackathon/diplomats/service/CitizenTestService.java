@@ -37,6 +37,7 @@ public class CitizenTestService {
 	private final QuestionOptionRepository questionOptionRepository;
 	private final CitizenTypeRepository citizenTypeRepository;
 	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final PressReleaseService pressReleaseService;
 	private final PublicDiplomacyService publicDiplomacyService;
 
@@ -90,6 +91,7 @@ public class CitizenTestService {
 		String resultTypeName = determineResultType(typeScores);
 		user.setCitizenType(resultTypeName);
 		userRepository.save(user);
+		userCacheService.evict(username); // 시민력 유형 변경
 
 		// 6. 유형 정보 조회 및 추천 보도자료 가져오기
 		CitizenType citizenType = citizenTypeRepository.findByTypeName(resultTypeName)
@@ -11,9 +11,7 @@ import publicdata.hackathon.diplomats.domain.dto.response.PopularDiscussBoardRes
 import publicdata.hackathon.diplomats.domain.dto.response.PopularFreeBoardResponse;
 import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
 import publicdata.hackathon.diplomats.domain.entity.FreeBoard;
-import publicdata.hackathon.diplomats.repository.DiscussBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiscussBoardRepository;
-import publicdata.hackathon.diplomats.repository.FreeBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardRepository;
 
 @Service
@@ -23,8 +21,6 @@ public class CommunityService {
 
 	private final FreeBoardRepository freeBoardRepository;
 	private final DiscussBoardRepository discussBoardRepository;
-	private final FreeBoardCommentRepository freeBoardCommentRepository;
-	private final DiscussBoardCommentRepository discussBoardCommentRepository;
 
 	/**
 	 * 커뮤니티 메인 페이지 데이터 조회
@@ -32,16 +28,10 @@ public class CommunityService {
 	 */
 	public CommunityResponse getCommunityData() {
 		// 자유게시판 인기글 상위 3개
-		List<FreeBoard> popularFreeBoards = freeBoardRepository.findTop3ByOrderByLikesDesc();
-		List<PopularFreeBoardResponse> freeBoardResponses = popularFreeBoards.stream()
-			.map(this::mapToPopularFreeBoardResponse)
-			.toList();
+		List<PopularFreeBoardResponse> freeBoardResponses = getPopularFreeBoards();
 
 		// 토론게시판 인기글 상위 3개  
-		List<DiscussBoard> popularDiscussBoards = discussBoardRepository.findTop3ByOrderByLikesDesc();
-		List<PopularDiscussBoardResponse> discussBoardResponses = popularDiscussBoards.stream()
-			.map(this::mapToPopularDiscussBoardResponse)
-			.toList();
+		List<PopularDiscussBoardResponse> discussBoardResponses = getPopularDiscussBoards();
 
 		return CommunityResponse.builder()
 			.popularFreeBoards(freeBoardResponses)
@@ -73,8 +63,6 @@ public class CommunityService {
 	 * FreeBoard를 PopularFreeBoardResponse로 변환
 	 */
 	private PopularFreeBoardResponse mapToPopularFreeBoardResponse(FreeBoard freeBoard) {
-		long commentCount = freeBoardCommentRepository.countByFreeBoard(freeBoard);
-		
 		return PopularFreeBoardResponse.builder()
 			.id(freeBoard.getId())
 			.title(freeBoard.getTitle())
@@ -83,7 +71,7 @@ public class CommunityService {
 			.viewCount(freeBoard.getViewCount())
 			.userId(freeBoard.getUser().getUserId())
 			.createdAt(freeBoard.getCreatedAt())
-			.commentCount((int) commentCount)
+			.commentCount(freeBoard.getCommentCount())
 			.build();
 	}
 
@@ -91,8 +79,6 @@ public class CommunityService {
 	 * DiscussBoard를 PopularDiscussBoardResponse로 변환
 	 */
 	private PopularDiscussBoardResponse mapToPopularDiscussBoardResponse(DiscussBoard discussBoard) {
-		long commentCount = discussBoardCommentRepository.countByDiscussBoard(discussBoard);
-		
 		return PopularDiscussBoardResponse.builder()
 			.id(discussBoard.getId())
 			.title(discussBoard.getTitle())
@@ -102,7 +88,7 @@ public class CommunityService {
 			.viewCount(discussBoard.getViewCount())
 			.userId(discussBoard.getUser().getUserId())
 			.createdAt(discussBoard.getCreatedAt())
-			.commentCount((int) commentCount)
+			.commentCount(discussBoard.getCommentCount())
 			.build();
 	}
 }
@@ -19,6 +19,7 @@ import publicdata.hackathon.diplomats.repository.UserRepository;
 public class CustomUserDetailsService implements UserDetailsService {
 
 	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 
 	@Override
 	public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
@@ -54,7 +55,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 		}
 		
 		try {
-			return userRepository.findByUserId(userName).orElse(null);
+			return userCacheService.findUser(userName).orElse(null);
 		} catch (Exception e) {
 			log.error("사용자 조회 실패: userName={}, error={}", userName, e.getMessage(), e);
 			return null;
@@ -68,7 +69,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 		}
 		
 		try {
-			return userRepository.findByUserId(userId).orElse(null);
+			// 인증 필터에서 매 요청 호출되므로 캐시를 통해 조회
+			return userCacheService.findUser(userId).orElse(null);
 		} catch (Exception e) {
 			log.error("사용자 조회 실패: userId={}, error={}", userId, e.getMessage(), e);
 			return null;
@@ -84,7 +86,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 		}
 		
 		try {
-			return userRepository.findByUserId(userId)
+			return userCacheService.findUser(userId)
 				.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 		} catch (CustomException e) {
 			throw e;
@@ -3,7 +3,10 @@ package publicdata.hackathon.diplomats.service;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +16,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
+import publicdata.hackathon.diplomats.domain.dto.response.CursorResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.DiaryCommentResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.DiaryDetailResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.DiaryImageResponse;
@@ -31,14 +36,14 @@ import publicdata.hackathon.diplomats.exception.ErrorCode;
 import publicdata.hackathon.diplomats.repository.DiaryCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiaryImageRepository;
 import publicdata.hackathon.diplomats.repository.DiaryRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 import publicdata.hackathon.diplomats.repository.LikeRepository;
 import publicdata.hackathon.diplomats.repository.VoteCandidateRepository;
 import publicdata.hackathon.diplomats.repository.UserStampRepository;
 import publicdata.hackathon.diplomats.utils.FileStorageUtil;
+import publicdata.hackathon.diplomats.utils.ImageEditPlan;
 import publicdata.hackathon.diplomats.utils.ImageUtil;
+import publicdata.hackathon.diplomats.utils.PageCursor;
 import publicdata.hackathon.diplomats.utils.SecurityUtils;
-import publicdata.hackathon.diplomats.utils.ResponseUtil;
 
 @Service
 @RequiredArgsConstructor
@@ -46,16 +51,21 @@ import publicdata.hackathon.diplomats.utils.ResponseUtil;
 @Slf4j
 public class DiaryService {
 
+	// 일지당 최대 이미지 수
+	private static final int MAX_IMAGES = 5;
+
 	private final DiaryRepository diaryRepository;
 	private final DiaryCommentRepository diaryCommentRepository;
 	private final DiaryImageRepository diaryImageRepository;
-	private final UserRepository userRepository;
 	private final LikeRepository likeRepository;
 	private final VoteCandidateRepository voteCandidateRepository;
 	private final UserStampRepository userStampRepository;
 	private final FileStorageUtil fileStorageUtil;
 	private final ImageUtil imageUtil;
 	private final StampService stampService;
+	private final LikeService likeService;
+	private final ViewCountService viewCountService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Long createDiary(String username, String title, String content, String action,
 		List<MultipartFile> images) {
@@ -96,6 +106,7 @@ public class DiaryService {
 				processImages(diary, images);
 			}
 			
+			eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("Diary"));
 			return diary.getId();
 			
 		} catch (CustomException e) {
@@ -126,24 +137,12 @@ public class DiaryService {
 					break;
 			}
 
+			// 좋아요 상태는 페이지 단위로 한 번에 조회
+			Set<Long> likedIds = likeService.getLikedTargetIds(username, "Diary",
+				diaryPage.map(Diary::getId).getContent());
+
 			List<DiaryResponse> content = diaryPage.stream()
-				.map(diary -> {
-					int commentCount = (int) diaryCommentRepository.countByDiary(diary);
-					return DiaryResponse.builder()
-						.id(diary.getId())
-						.title(diary.getTitle())
-						.description(diary.getDescription())
-						.action(diary.getAction())
-						.likes(diary.getLikes())
-						.liked(ResponseUtil.isLiked(username, "Diary", diary.getId(), likeRepository, userRepository))
-						.viewCount(diary.getViewCount())
-						.commentCount(commentCount) // 🔧 댓글 수 추가
-						.createdAt(diary.getCreatedAt())
-						.updatedAt(diary.getUpdatedAt())
-						.userId(diary.getWriter().getUserId())
-						.isOwner(username != null && username.equals(diary.getWriter().getUserId()))
-						.build();
-				})
+				.map(diary -> toDiaryResponse(username, diary, likedIds))
 				.toList();
 				
 			return PagedResponse.of(content, diaryPage);
@@ -154,23 +153,94 @@ public class DiaryService {
 		}
 	}
 
+	/**
+	 * 커서 기반 목록 조회 - 마지막으로 본 일지 다음부터 size 개 조회 (전체 개수는 세지 않음)
+	 */
+	public CursorResponse<DiaryResponse> getDiariesByCursor(String username, String cursor, int size, String sortBy) {
+		try {
+			PageCursor after = PageCursor.decode(cursor);
+			Long lastId = after != null ? after.id() : Long.MAX_VALUE;
+			// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+			Pageable limit = PageRequest.of(0, size + 1);
+			List<Diary> diaries;
+			Function<Diary, Object> sortKey;
+
+			switch (sortBy.toLowerCase()) {
+				case "views":
+				case "viewcount":
+					diaries = diaryRepository.findPageAfterViewCount(
+						after != null ? after.sortKeyAsInt() : Integer.MAX_VALUE, lastId, limit);
+					sortKey = diary -> diary.getViewCount() != null ? diary.getViewCount() : 0;
+					break;
+				case "likes":
+					diaries = diaryRepository.findPageAfterLikes(
+						after != null ? after.sortKeyAsInt() : Integer.MAX_VALUE, lastId, limit);
+					sortKey = diary -> diary.getLikes() != null ? diary.getLikes() : 0;
+					break;
+				case "latest":
+				case "created":
+				default:
+					diaries = diaryRepository.findPageAfterCreatedAt(
+						after != null ? after.sortKeyAsDateTime() : PageCursor.MAX_DATE_TIME, lastId, limit);
+					sortKey = Diary::getCreatedAt;
+					break;
+			}
+
+			boolean hasMore = diaries.size() > size;
+			List<Diary> page = hasMore ? diaries.subList(0, size) : diaries;
+
+			Set<Long> likedIds = likeService.getLikedTargetIds(username, "Diary",
+				page.stream().map(Diary::getId).toList());
+
+			List<DiaryResponse> content = page.stream()
+				.map(diary -> toDiaryResponse(username, diary, likedIds))
+				.toList();
+
+			String nextCursor = page.isEmpty() ? null
+				: PageCursor.encode(sortKey.apply(page.get(page.size() - 1)), page.get(page.size() - 1).getId());
+			return CursorResponse.of(content, nextCursor, size, hasMore);
+
+		} catch (CustomException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("일지 목록 조회 실패: username={}, error={}", username, e.getMessage(), e);
+			throw new CustomException(ErrorCode.DATABASE_ERROR, "일지 목록 조회 중 오류가 발생했습니다.");
+		}
+	}
+
+	private DiaryResponse toDiaryResponse(String username, Diary diary, Set<Long> likedIds) {
+		return DiaryResponse.builder()
+			.id(diary.getId())
+			.title(diary.getTitle())
+			.description(diary.getDescription())
+			.action(diary.getAction())
+			.likes(diary.getLikes())
+			.liked(likedIds.contains(diary.getId()))
+			.viewCount(diary.getViewCount())
+			.commentCount(diary.getCommentCount()) // 🔧 댓글 수 추가
+			.createdAt(diary.getCreatedAt())
+			.updatedAt(diary.getUpdatedAt())
+			.userId(diary.getWriter().getUserId())
+			.isOwner(username != null && username.equals(diary.getWriter().getUserId()))
+			.build();
+	}
+
+	@Transactional(readOnly = true)
 	public DiaryDetailResponse getDiaryDetails(String username, Long id) {
 		if (id == null || id <= 0) {
 			throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 일지 ID입니다.");
 		}
 
 		try {
-			Diary diary = diaryRepository.findById(id)
+			Diary diary = diaryRepository.findWithDetailsById(id)
 				.orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND, "일지를 찾을 수 없습니다."));
 
-			// 🔧 조회수 증가 (본인이 아닌 경우에만)
+			// 🔧 조회수 증가 (본인이 아닌 경우에만, 반복 조회는 제외하고 버퍼에 누적 후 주기적으로 DB 반영)
 			if (username == null || !diary.getWriter().getUserId().equals(username)) {
-				diary.incrementViewCount();
-				diaryRepository.save(diary);
-				log.debug("일지 조회수 증가: diaryId={}, newViewCount={}", id, diary.getViewCount());
+				viewCountService.recordView("Diary", id, username);
 			}
 
-			List<DiaryCommentResponse> diaryComments = diaryCommentRepository.findAllByDiary(diary)
+			List<DiaryCommentResponse> diaryComments = diaryCommentRepository.findAllWithCommenterByDiary(diary)
 				.stream()
 				.map(diaryComment -> DiaryCommentResponse.builder()
 					.id(diaryComment.getId())
@@ -189,8 +259,8 @@ public class DiaryService {
 				.description(diary.getDescription())
 				.action(diary.getAction())
 				.likes(diary.getLikes())
-				.liked(ResponseUtil.isLiked(username, "Diary", diary.getId(), likeRepository, userRepository))
-				.viewCount(diary.getViewCount()) // 🔧 조회수도 응답에 포함
+				.liked(likeService.isLiked(username, "Diary", diary.getId()))
+				.viewCount(viewCountService.getViewCount("Diary", id, diary.getViewCount())) // 🔧 반영 대기 중인 조회수 포함
 				.userId(diary.getWriter().getUserId())
 				.isOwner(username != null && username.equals(diary.getWriter().getUserId()))
 				.createdAt(diary.getCreatedAt())
@@ -241,7 +311,8 @@ public class DiaryService {
 	/**
 	 * 실천일지 수정
 	 */
-	public void updateDiary(String username, Long id, String title, String content, String action, List<MultipartFile> images) {
+	public void updateDiary(String username, Long id, String title, String content, String action,
+		List<MultipartFile> images, ImageEditManifest manifest) {
 		if (id == null || id <= 0) {
 			throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 일지 ID입니다.");
 		}
@@ -264,24 +335,30 @@ public class DiaryService {
 			diary.setAction(action);
 			diary.setUpdatedAt(LocalDateTime.now());
 
-			// 기존 이미지들 삭제
-			List<DiaryImage> existingImages = diaryImageRepository.findAllByDiary(diary);
-			for (DiaryImage image : existingImages) {
-				try {
-					fileStorageUtil.deleteDiaryFile(image.getSavedFileName());
-				} catch (Exception e) {
-					log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+			if (manifest != null) {
+				// 바뀐 이미지만 반영
+				applyImageEdits(diary, images, manifest);
+			} else {
+				// 기존 이미지들 삭제
+				List<DiaryImage> existingImages = diaryImageRepository.findAllByDiary(diary);
+				for (DiaryImage image : existingImages) {
+					try {
+						fileStorageUtil.deleteDiaryFile(image.getSavedFileName());
+					} catch (Exception e) {
+						log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+					}
 				}
-			}
-			diaryImageRepository.deleteAll(existingImages);
+				diaryImageRepository.deleteAll(existingImages);
 
-			// 새 이미지들 추가
-			if (images != null && !images.isEmpty()) {
-				processImages(diary, images);
+				// 새 이미지들 추가
+				if (images != null && !images.isEmpty()) {
+					processImages(diary, images);
+				}
 			}
 
 			diaryRepository.save(diary);
 			log.info("일지 수정 완료: userId={}, diaryId={}", username, id);
+			eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("Diary"));
 			
 		} catch (CustomException e) {
 			throw e;
@@ -316,6 +393,7 @@ public class DiaryService {
 			// 🔧 2. 일지 자체 삭제
 			diaryRepository.delete(diary);
 			log.info("일지 삭제 완료: userId={}, diaryId={}", username, id);
+			eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("Diary"));
 			
 		} catch (CustomException e) {
 			throw e;
@@ -393,36 +471,69 @@ public class DiaryService {
 	}
 
 	private void processImages(Diary diary, List<MultipartFile> images) {
-		if (images.size() > 5) {
+		if (images.size() > MAX_IMAGES) {
 			throw new CustomException(ErrorCode.INVALID_INPUT, "이미지는 최대 5개까지 업로드 가능합니다.");
 		}
 
 		for (int i = 0; i < images.size(); i++) {
 			MultipartFile image = images.get(i);
 			if (!image.isEmpty()) {
-				validateImageFile(image);
-				
-				try {
-					String savedFileName = fileStorageUtil.saveDiaryFile(image);
-
-					DiaryImage diaryImage = DiaryImage.builder()
-						.diary(diary)
-						.imagePath("/uploads/diary/" + savedFileName)
-						.originalFileName(image.getOriginalFilename())
-						.savedFileName(savedFileName)
-						.fileSize(image.getSize())
-						.contentType(image.getContentType())
-						.imageOrder(i + 1)
-						.uploadedAt(LocalDateTime.now())
-						.build();
-
-					diaryImageRepository.save(diaryImage);
-					
-				} catch (Exception e) {
-					log.error("이미지 저장 실패: diaryId={}, fileName={}, error={}", 
-						diary.getId(), image.getOriginalFilename(), e.getMessage(), e);
-					throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
-				}
+				saveImage(diary, image, i + 1);
+			}
+		}
+	}
+
+	private void saveImage(Diary diary, MultipartFile image, int imageOrder) {
+		validateImageFile(image);
+		
+		try {
+			String savedFileName = fileStorageUtil.saveDiaryFile(image);
+
+			DiaryImage diaryImage = DiaryImage.builder()
+				.diary(diary)
+				.imagePath(imageUtil.generateImageUrl(savedFileName, "diary"))
+				.originalFileName(image.getOriginalFilename())
+				.savedFileName(savedFileName)
+				.fileSize(image.getSize())
+				.contentType(image.getContentType())
+				.imageOrder(imageOrder)
+				.uploadedAt(LocalDateTime.now())
+				.build();
+
+			diaryImageRepository.save(diaryImage);
+			eventPublisher.publishEvent(
+				new ImageVariantService.ImageUploadedEvent("diary", diaryImage.getId(), savedFileName));
+			
+		} catch (Exception e) {
+			log.error("이미지 저장 실패: diaryId={}, fileName={}, error={}", 
+				diary.getId(), image.getOriginalFilename(), e.getMessage(), e);
+			throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+		}
+	}
+
+	/**
+	 * manifest대로 이미지 변경 - 삭제 대상만 지우고, 유지하는 이미지는 순서만 갱신하고, 새 파일만 저장
+	 */
+	private void applyImageEdits(Diary diary, List<MultipartFile> images, ImageEditManifest manifest) {
+		List<MultipartFile> newImages = images != null ? images : List.of();
+		ImageEditPlan<DiaryImage> plan = ImageEditPlan.of(manifest, diaryImageRepository.findAllByDiary(diary),
+			DiaryImage::getId, DiaryImage::getImageOrder, newImages.size(), MAX_IMAGES);
+
+		for (DiaryImage image : plan.getRemoved()) {
+			try {
+				fileStorageUtil.deleteDiaryFile(image.getSavedFileName());
+			} catch (Exception e) {
+				log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+			}
+		}
+		diaryImageRepository.deleteAll(plan.getRemoved());
+
+		int order = 1;
+		for (ImageEditPlan.Slot<DiaryImage> slot : plan.getSlots()) {
+			if (slot.existing() != null) {
+				slot.existing().setImageOrder(order++);
+			} else if (!newImages.get(slot.newIndex()).isEmpty()) {
+				saveImage(diary, newImages.get(slot.newIndex()), order++);
 			}
 		}
 	}
@@ -442,7 +553,7 @@ public class DiaryService {
 
 	private List<DiaryImageResponse> processDiaryImages(Diary diary) {
 		try {
-			return diaryImageRepository.findAllByDiary(diary)
+			return diary.getImages()
 				.stream()
 				.sorted((img1, img2) -> img1.getImageOrder().compareTo(img2.getImageOrder()))
 				.map(image -> {
@@ -451,7 +562,7 @@ public class DiaryService {
 						String mimeType = imageUtil.getImageMimeType(image.getOriginalFileName());
 
 						// 이미지 파일 존재 여부 확인
-						String fullPath = "uploads/diary/" + image.getSavedFileName();
+						String fullPath = imageUtil.resolveImagePath(image.getSavedFileName(), "diary");
 						if (!imageUtil.imageExists(fullPath)) {
 							log.warn("이미지 파일이 존재하지 않음, 기본 URL 사용: imageId={}, path={}", image.getId(), fullPath);
 							imageUrl = imageUtil.getDefaultImageUrl();
@@ -462,6 +573,8 @@ public class DiaryService {
 							.id(image.getId())
 							.originalFileName(image.getOriginalFileName())
 							.imageUrl(imageUrl)
+							.thumbnailUrl(imageUtil.generateVariantUrl(image.getThumbnailFileName(), "diary", imageUrl))
+							.mediumUrl(imageUtil.generateVariantUrl(image.getMediumFileName(), "diary", imageUrl))
 							.mimeType(mimeType)
 							.imageOrder(image.getImageOrder())
 							.fileSize(image.getFileSize())
@@ -473,6 +586,8 @@ public class DiaryService {
 							.id(image.getId())
 							.originalFileName(image.getOriginalFileName())
 							.imageUrl(imageUtil.getDefaultImageUrl())
+							.thumbnailUrl(imageUtil.getDefaultImageUrl())
+							.mediumUrl(imageUtil.getDefaultImageUrl())
 							.mimeType("image/png")
 							.imageOrder(image.getImageOrder())
 							.fileSize(0L)
@@ -2,16 +2,23 @@ package publicdata.hackathon.diplomats.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.request.DiscussBoardUpdateRequest;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
+import publicdata.hackathon.diplomats.domain.dto.response.CursorResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.DiscussBoardCommentResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.DiscussBoardDetailResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.DiscussBoardImageResponse;
@@ -24,28 +31,34 @@ import publicdata.hackathon.diplomats.domain.enums.DiscussType;
 import publicdata.hackathon.diplomats.repository.DiscussBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiscussBoardImageRepository;
 import publicdata.hackathon.diplomats.repository.DiscussBoardRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 import publicdata.hackathon.diplomats.repository.LikeRepository;
 import publicdata.hackathon.diplomats.utils.FileStorageUtil;
+import publicdata.hackathon.diplomats.utils.ImageEditPlan;
 import publicdata.hackathon.diplomats.utils.ImageUtil;
-import publicdata.hackathon.diplomats.utils.ResponseUtil;
+import publicdata.hackathon.diplomats.utils.PageCursor;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DiscussBoardService {
 
+	// 게시글당 최대 이미지 수
+	private static final int MAX_IMAGES = 3;
+
 	private final DiscussBoardRepository discussBoardRepository;
 	private final DiscussBoardCommentRepository discussBoardCommentRepository;
 	private final DiscussBoardImageRepository discussBoardImageRepository;
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final LikeRepository likeRepository;
+	private final LikeService likeService;
+	private final ViewCountService viewCountService;
+	private final ApplicationEventPublisher eventPublisher;
 	private final FileStorageUtil fileStorageUtil;
 	private final ImageUtil imageUtil;
 
 	public Long createDiscussBoard(String username, String title, String content, DiscussType discussType,
 		List<MultipartFile> images) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("User not found"));
 		DiscussBoard discussBoard = DiscussBoard.builder()
 			.discussType(discussType)
@@ -60,24 +73,12 @@ public class DiscussBoardService {
 			for (int i = 0; i < images.size(); i++) {
 				MultipartFile image = images.get(i);
 				if (!image.isEmpty()) {
-					String savedFileName = fileStorageUtil.saveDiscussBoardFile(image);
-
-					DiscussBoardImage discussBoardImage = DiscussBoardImage.builder()
-						.discussBoard(discussBoard)
-						.imagePath("/uploads/discussboard/" + savedFileName)
-						.originalFileName(image.getOriginalFilename())
-						.savedFileName(savedFileName)
-						.fileSize(image.getSize())
-						.contentType(image.getContentType())
-						.imageOrder(i + 1) // 1부터 시작하는 순서
-						.uploadedAt(LocalDateTime.now())
-						.build();
-
-					discussBoardImageRepository.save(discussBoardImage);
+					saveImage(discussBoard, image, i + 1); // 1부터 시작하는 순서
 				}
 			}
 		}
 		
+		eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("DiscussBoard"));
 		return discussBoard.getId();
 	}
 
@@ -100,38 +101,94 @@ public class DiscussBoardService {
 				break;
 		}
 		
+		// 좋아요 상태는 페이지 단위로 한 번에 조회
+		Set<Long> likedIds = likeService.getLikedTargetIds(username, "DiscussBoard",
+			discussBoardPage.map(DiscussBoard::getId).getContent());
+
 		List<DiscussBoardResponse> content = discussBoardPage.stream()
-			.map(discussBoard -> DiscussBoardResponse.builder()
-				.id(discussBoard.getId())
-				.title(discussBoard.getTitle())
-				.content(discussBoard.getContent())
-				.discussType(discussBoard.getDiscussType())
-				.discussTypeDisplay(discussBoard.getDiscussType().getDisplayName())
-				.likes(discussBoard.getLikes())
-				.liked(ResponseUtil.isLiked(username, "DiscussBoard", discussBoard.getId(), likeRepository, userRepository))
-				.viewCount(discussBoard.getViewCount())
-				.createdAt(discussBoard.getCreatedAt())
-				.updatedAt(discussBoard.getUpdatedAt())
-				.userId(discussBoard.getUser().getUserId())
-				.isOwner(username != null && username.equals(discussBoard.getUser().getUserId()))
-				.build())
+			.map(discussBoard -> toDiscussBoardResponse(username, discussBoard, likedIds))
 			.toList();
 			
 		return PagedResponse.of(content, discussBoardPage);
 	}
 
+	/**
+	 * 커서 기반 목록 조회 - 마지막으로 본 글 다음부터 size 개 조회 (전체 개수는 세지 않음)
+	 */
+	public CursorResponse<DiscussBoardResponse> getDiscussBoardsByCursor(String username, String cursor, int size,
+		String sortBy) {
+		PageCursor after = PageCursor.decode(cursor);
+		Long lastId = after != null ? after.id() : Long.MAX_VALUE;
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		Pageable limit = PageRequest.of(0, size + 1);
+		List<DiscussBoard> discussBoards;
+		Function<DiscussBoard, Object> sortKey;
+
+		switch (sortBy.toLowerCase()) {
+			case "views":
+			case "viewcount":
+				discussBoards = discussBoardRepository.findPageAfterViewCount(
+					after != null ? after.sortKeyAsInt() : Integer.MAX_VALUE, lastId, limit);
+				sortKey = DiscussBoard::getViewCount;
+				break;
+			case "likes":
+				discussBoards = discussBoardRepository.findPageAfterLikes(
+					after != null ? after.sortKeyAsInt() : Integer.MAX_VALUE, lastId, limit);
+				sortKey = DiscussBoard::getLikes;
+				break;
+			case "latest":
+			case "created":
+			default:
+				discussBoards = discussBoardRepository.findPageAfterCreatedAt(
+					after != null ? after.sortKeyAsDateTime() : PageCursor.MAX_DATE_TIME, lastId, limit);
+				sortKey = DiscussBoard::getCreatedAt;
+				break;
+		}
+
+		boolean hasMore = discussBoards.size() > size;
+		List<DiscussBoard> page = hasMore ? discussBoards.subList(0, size) : discussBoards;
+
+		Set<Long> likedIds = likeService.getLikedTargetIds(username, "DiscussBoard",
+			page.stream().map(DiscussBoard::getId).toList());
+
+		List<DiscussBoardResponse> content = page.stream()
+			.map(discussBoard -> toDiscussBoardResponse(username, discussBoard, likedIds))
+			.toList();
+
+		String nextCursor = page.isEmpty() ? null
+			: PageCursor.encode(sortKey.apply(page.get(page.size() - 1)), page.get(page.size() - 1).getId());
+		return CursorResponse.of(content, nextCursor, size, hasMore);
+	}
+
+	private DiscussBoardResponse toDiscussBoardResponse(String username, DiscussBoard discussBoard,
+		Set<Long> likedIds) {
+		return DiscussBoardResponse.builder()
+			.id(discussBoard.getId())
+			.title(discussBoard.getTitle())
+			.content(discussBoard.getContent())
+			.discussType(discussBoard.getDiscussType())
+			.discussTypeDisplay(discussBoard.getDiscussType().getDisplayName())
+			.likes(discussBoard.getLikes())
+			.liked(likedIds.contains(discussBoard.getId()))
+			.viewCount(discussBoard.getViewCount())
+			.createdAt(discussBoard.getCreatedAt())
+			.updatedAt(discussBoard.getUpdatedAt())
+			.userId(discussBoard.getUser().getUserId())
+			.isOwner(username != null && username.equals(discussBoard.getUser().getUserId()))
+			.build();
+	}
+
+	@Transactional(readOnly = true)
 	public DiscussBoardDetailResponse getDiscussBoardDetails(String username, Long id) {
-		DiscussBoard discussBoard = discussBoardRepository.findById(id)
+		DiscussBoard discussBoard = discussBoardRepository.findWithDetailsById(id)
 			.orElseThrow(() -> new EntityNotFoundException("DiscussBoard not found"));
 		
-		// 🔧 조회수 증가 (본인이 아닌 경우에만)
+		// 🔧 조회수 증가 (본인이 아닌 경우에만, 반복 조회는 제외하고 버퍼에 누적 후 주기적으로 DB 반영)
 		if (username == null || !discussBoard.getUser().getUserId().equals(username)) {
-			discussBoard.incrementViewCount();
-			discussBoardRepository.save(discussBoard);
-			log.debug("토론게시글 조회수 증가: boardId={}, newViewCount={}", id, discussBoard.getViewCount());
+			viewCountService.recordView("DiscussBoard", id, username);
 		}
 		
-		List<DiscussBoardCommentResponse> discussBoardComments = discussBoardCommentRepository.findAllByDiscussBoard(discussBoard)
+		List<DiscussBoardCommentResponse> discussBoardComments = discussBoardCommentRepository.findAllWithUserByDiscussBoard(discussBoard)
 			.stream()
 			.map(discussBoardComment -> DiscussBoardCommentResponse.builder()
 				.id(discussBoardComment.getId())
@@ -144,7 +201,7 @@ public class DiscussBoardService {
 				.build())
 			.toList();
 
-		List<DiscussBoardImageResponse> images = discussBoardImageRepository.findAllByDiscussBoard(discussBoard)
+		List<DiscussBoardImageResponse> images = discussBoard.getImages()
 			.stream()
 			.sorted((img1, img2) -> img1.getImageOrder().compareTo(img2.getImageOrder()))
 			.map(image -> {
@@ -152,7 +209,7 @@ public class DiscussBoardService {
 				String mimeType = imageUtil.getImageMimeType(image.getOriginalFileName());
 
 				// 이미지 파일 존재 여부 확인
-				String fullPath = "uploads/discussboard/" + image.getSavedFileName();
+				String fullPath = imageUtil.resolveImagePath(image.getSavedFileName(), "discussboard");
 				if (!imageUtil.imageExists(fullPath)) {
 					log.warn("이미지 파일이 존재하지 않음, 기본 URL 사용: imageId={}, path={}", image.getId(), fullPath);
 					imageUrl = imageUtil.getDefaultImageUrl();
@@ -163,6 +220,8 @@ public class DiscussBoardService {
 					.id(image.getId())
 					.originalFileName(image.getOriginalFileName())
 					.imageUrl(imageUrl)
+					.thumbnailUrl(imageUtil.generateVariantUrl(image.getThumbnailFileName(), "discussboard", imageUrl))
+					.mediumUrl(imageUtil.generateVariantUrl(image.getMediumFileName(), "discussboard", imageUrl))
 					.mimeType(mimeType)
 					.imageOrder(image.getImageOrder())
 					.fileSize(image.getFileSize())
@@ -176,7 +235,7 @@ public class DiscussBoardService {
 			.discussType(discussBoard.getDiscussType())
 			.discussTypeDisplay(discussBoard.getDiscussType().getDisplayName())
 			.likes(discussBoard.getLikes())
-			.viewCount(discussBoard.getViewCount()) // 🔧 조회수 추가
+			.viewCount(viewCountService.getViewCount("DiscussBoard", id, discussBoard.getViewCount())) // 🔧 반영 대기 중인 조회수 포함
 			.userId(discussBoard.getUser().getUserId())
 			.owner(username != null && username.equals(discussBoard.getUser().getUserId()))
 			.createdAt(discussBoard.getCreatedAt())
@@ -186,7 +245,12 @@ public class DiscussBoardService {
 			.build();
 	}
 
-	public void updateDiscussBoard(String username, Long id, String title, String content, DiscussType discussType, List<MultipartFile> images) {
+	/**
+	 * 게시글 수정 - manifest가 있으면 추가/삭제/순서 변경된 이미지만 반영, 없으면 images로 전체 교체
+	 */
+	@Transactional
+	public void updateDiscussBoard(String username, Long id, String title, String content, DiscussType discussType,
+		List<MultipartFile> images, ImageEditManifest manifest) {
 		DiscussBoard discussBoard = discussBoardRepository.findById(id)
 			.orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
@@ -201,42 +265,65 @@ public class DiscussBoardService {
 		discussBoard.setDiscussType(discussType);
 		discussBoard.setUpdatedAt(LocalDateTime.now());
 
-		// 기존 이미지들 삭제
 		List<DiscussBoardImage> existingImages = discussBoardImageRepository.findAllByDiscussBoard(discussBoard);
-		for (DiscussBoardImage image : existingImages) {
-			try {
-				fileStorageUtil.deleteDiscussBoardFile(image.getSavedFileName());
-			} catch (Exception e) {
-				log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+		List<MultipartFile> newImages = images != null ? images : List.of();
+		if (manifest == null) {
+			deleteImages(existingImages);
+			for (int i = 0; i < newImages.size(); i++) {
+				MultipartFile image = newImages.get(i);
+				if (!image.isEmpty()) {
+					saveImage(discussBoard, image, i + 1);
+				}
 			}
-		}
-		discussBoardImageRepository.deleteAll(existingImages);
+		} else {
+			ImageEditPlan<DiscussBoardImage> plan = ImageEditPlan.of(manifest, existingImages,
+				DiscussBoardImage::getId, DiscussBoardImage::getImageOrder, newImages.size(), MAX_IMAGES);
+			deleteImages(plan.getRemoved());
 
-		// 새 이미지들 추가
-		if (images != null && !images.isEmpty()) {
-			for (int i = 0; i < images.size(); i++) {
-				MultipartFile image = images.get(i);
-				if (!image.isEmpty()) {
-					String savedFileName = fileStorageUtil.saveDiscussBoardFile(image);
-
-					DiscussBoardImage discussBoardImage = DiscussBoardImage.builder()
-						.discussBoard(discussBoard)
-						.imagePath("/uploads/discussboard/" + savedFileName)
-						.originalFileName(image.getOriginalFilename())
-						.savedFileName(savedFileName)
-						.fileSize(image.getSize())
-						.contentType(image.getContentType())
-						.imageOrder(i + 1)
-						.uploadedAt(LocalDateTime.now())
-						.build();
-
-					discussBoardImageRepository.save(discussBoardImage);
+			// 유지하는 이미지는 파일을 건드리지 않고 순서만 맞춤
+			int order = 1;
+			for (ImageEditPlan.Slot<DiscussBoardImage> slot : plan.getSlots()) {
+				if (slot.existing() != null) {
+					slot.existing().setImageOrder(order++);
+				} else if (!newImages.get(slot.newIndex()).isEmpty()) {
+					saveImage(discussBoard, newImages.get(slot.newIndex()), order++);
 				}
 			}
 		}
 
 		discussBoardRepository.save(discussBoard);
 		log.info("토론게시글 수정 완료: discussBoardId={}, userId={}", id, username);
+		eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("DiscussBoard"));
+	}
+
+	private void saveImage(DiscussBoard discussBoard, MultipartFile image, int imageOrder) {
+		String savedFileName = fileStorageUtil.saveDiscussBoardFile(image);
+
+		DiscussBoardImage discussBoardImage = DiscussBoardImage.builder()
+			.discussBoard(discussBoard)
+			.imagePath(imageUtil.generateImageUrl(savedFileName, "discussboard"))
+			.originalFileName(image.getOriginalFilename())
+			.savedFileName(savedFileName)
+			.fileSize(image.getSize())
+			.contentType(image.getContentType())
+			.imageOrder(imageOrder)
+			.uploadedAt(LocalDateTime.now())
+			.build();
+
+		discussBoardImageRepository.save(discussBoardImage);
+		eventPublisher.publishEvent(
+			new ImageVariantService.ImageUploadedEvent("discussboard", discussBoardImage.getId(), savedFileName));
+	}
+
+	private void deleteImages(List<DiscussBoardImage> images) {
+		for (DiscussBoardImage image : images) {
+			try {
+				fileStorageUtil.deleteDiscussBoardFile(image.getSavedFileName());
+			} catch (Exception e) {
+				log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+			}
+		}
+		discussBoardImageRepository.deleteAll(images);
 	}
 
 	public void deleteDiscussBoard(String username, Long id) {
@@ -273,5 +360,6 @@ public class DiscussBoardService {
 		// DiscussBoard 삭제 (CASCADE로 연관된 이미지와 댓글들이 자동 삭제됨)
 		discussBoardRepository.delete(discussBoard);
 		log.info("토론게시글 삭제 완료: discussBoardId={}, userId={}", id, username);
+		eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("DiscussBoard"));
 	}
 }
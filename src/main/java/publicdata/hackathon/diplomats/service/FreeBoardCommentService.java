@@ -1,8 +1,11 @@
 package publicdata.hackathon.diplomats.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -13,18 +16,20 @@ import publicdata.hackathon.diplomats.domain.entity.FreeBoardComment;
 import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.repository.FreeBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class FreeBoardCommentService {
 
+	private static final int RECONCILE_BATCH_SIZE = 500;
+
 	private final FreeBoardCommentRepository freeBoardCommentRepository;
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final FreeBoardRepository freeBoardRepository;
 
+	@Transactional
 	public void commentFreeBoard(String username, Long id, CommentRequest commentRequest) {
-		User user = userRepository.findByUserId(username).orElseThrow();
+		User user = userCacheService.findUser(username).orElseThrow();
 		FreeBoard freeBoard = freeBoardRepository.findById(id).orElseThrow();
 
 		FreeBoardComment freeBoardComment = FreeBoardComment.builder()
@@ -33,6 +38,7 @@ public class FreeBoardCommentService {
 			.user(user)
 			.build();
 		freeBoardCommentRepository.save(freeBoardComment);
+		freeBoardRepository.updateCommentCount(freeBoard.getId(), 1);
 	}
 
 	public void updateComment(String username, Long commentId, CommentUpdateRequest request) {
@@ -51,6 +57,7 @@ public class FreeBoardCommentService {
 		freeBoardCommentRepository.save(comment);
 	}
 
+	@Transactional
 	public void deleteComment(String username, Long commentId) {
 		FreeBoardComment comment = freeBoardCommentRepository.findById(commentId)
 			.orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
@@ -61,5 +68,27 @@ public class FreeBoardCommentService {
 		}
 
 		freeBoardCommentRepository.delete(comment);
+		freeBoardRepository.updateCommentCount(comment.getFreeBoard().getId(), -1);
+	}
+
+	/**
+	 * 게시글 댓글 수 보정 (저장된 값과 실제 댓글 수가 다른 게시글만 수정)
+	 * 전체를 한 트랜잭션으로 묶지 않고 id 배치마다 UPDATE 한 번으로 처리
+	 * @return 보정된 게시글 수
+	 */
+	public int reconcileCommentCounts() {
+		int fixedCount = 0;
+		long lastId = 0L;
+		List<Long> ids;
+
+		do {
+			ids = freeBoardRepository.findIdsAfter(lastId, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+			if (!ids.isEmpty()) {
+				fixedCount += freeBoardRepository.reconcileCommentCounts(ids);
+				lastId = ids.get(ids.size() - 1);
+			}
+		} while (ids.size() == RECONCILE_BATCH_SIZE);
+
+		return fixedCount;
 	}
 }
@@ -2,16 +2,23 @@ package publicdata.hackathon.diplomats.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.request.FreeBoardUpdateRequest;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
+import publicdata.hackathon.diplomats.domain.dto.response.CursorResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.FreeBoardCommentResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.FreeBoardDetailResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.FreeBoardImageResponse;
@@ -23,27 +30,33 @@ import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.repository.FreeBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardImageRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 import publicdata.hackathon.diplomats.repository.LikeRepository;
 import publicdata.hackathon.diplomats.utils.FileStorageUtil;
+import publicdata.hackathon.diplomats.utils.ImageEditPlan;
 import publicdata.hackathon.diplomats.utils.ImageUtil;
-import publicdata.hackathon.diplomats.utils.ResponseUtil;
+import publicdata.hackathon.diplomats.utils.PageCursor;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FreeBoardService {
 
+	// 게시글당 최대 이미지 수
+	private static final int MAX_IMAGES = 3;
+
 	private final FreeBoardRepository freeBoardRepository;
 	private final FreeBoardCommentRepository freeBoardCommentRepository;
 	private final FreeBoardImageRepository freeBoardImageRepository;
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final LikeRepository likeRepository;
+	private final LikeService likeService;
+	private final ViewCountService viewCountService;
+	private final ApplicationEventPublisher eventPublisher;
 	private final FileStorageUtil fileStorageUtil;
 	private final ImageUtil imageUtil;
 
 	public Long createFreeBoard(String username, String title, String content, List<MultipartFile> images) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("User not found"));
 
 		FreeBoard freeBoard = FreeBoard.builder()
@@ -57,24 +70,12 @@ public class FreeBoardService {
 			for (int i = 0; i < images.size(); i++) {
 				MultipartFile image = images.get(i);
 				if (!image.isEmpty()) {
-					String savedFileName = fileStorageUtil.saveFreeBoardFile(image);
-
-					FreeBoardImage freeBoardImage = FreeBoardImage.builder()
-						.freeBoard(freeBoard)
-						.imagePath("/uploads/freeboard/" + savedFileName)
-						.originalFileName(image.getOriginalFilename())
-						.savedFileName(savedFileName)
-						.fileSize(image.getSize())
-						.contentType(image.getContentType())
-						.imageOrder(i + 1) // 1부터 시작하는 순서
-						.uploadedAt(LocalDateTime.now())
-						.build();
-
-					freeBoardImageRepository.save(freeBoardImage);
+					saveImage(freeBoard, image, i + 1); // 1부터 시작하는 순서
 				}
 			}
 		}
 		
+		eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("FreeBoard"));
 		return freeBoard.getId();
 	}
 
@@ -97,35 +98,90 @@ public class FreeBoardService {
 				break;
 		}
 		
+		// 좋아요 상태는 페이지 단위로 한 번에 조회
+		Set<Long> likedIds = likeService.getLikedTargetIds(username, "FreeBoard",
+			freeBoardPage.map(FreeBoard::getId).getContent());
+
 		List<FreeBoardResponse> content = freeBoardPage.stream()
-			.map(freeBoard -> FreeBoardResponse.builder()
-				.id(freeBoard.getId())
-				.title(freeBoard.getTitle())
-				.likes(freeBoard.getLikes())
-				.liked(ResponseUtil.isLiked(username, "FreeBoard", freeBoard.getId(), likeRepository, userRepository))
-				.content(freeBoard.getContent())
-				.createdAt(freeBoard.getCreatedAt())
-				.updatedAt(freeBoard.getUpdatedAt())
-				.userId(freeBoard.getUser().getUserId())
-				.isOwner(username != null && username.equals(freeBoard.getUser().getUserId()))
-				.build())
+			.map(freeBoard -> toFreeBoardResponse(username, freeBoard, likedIds))
 			.toList();
 			
 		return PagedResponse.of(content, freeBoardPage);
 	}
 
+	/**
+	 * 커서 기반 목록 조회 - 마지막으로 본 글 다음부터 size 개 조회 (전체 개수는 세지 않음)
+	 */
+	public CursorResponse<FreeBoardResponse> getFreeBoardsByCursor(String username, String cursor, int size,
+		String sortBy) {
+		PageCursor after = PageCursor.decode(cursor);
+		Long lastId = after != null ? after.id() : Long.MAX_VALUE;
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		Pageable limit = PageRequest.of(0, size + 1);
+		List<FreeBoard> freeBoards;
+		Function<FreeBoard, Object> sortKey;
+
+		switch (sortBy.toLowerCase()) {
+			case "views":
+			case "viewcount":
+				freeBoards = freeBoardRepository.findPageAfterViewCount(
+					after != null ? after.sortKeyAsInt() : Integer.MAX_VALUE, lastId, limit);
+				sortKey = FreeBoard::getViewCount;
+				break;
+			case "likes":
+				freeBoards = freeBoardRepository.findPageAfterLikes(
+					after != null ? after.sortKeyAsInt() : Integer.MAX_VALUE, lastId, limit);
+				sortKey = FreeBoard::getLikes;
+				break;
+			case "latest":
+			case "created":
+			default:
+				freeBoards = freeBoardRepository.findPageAfterCreatedAt(
+					after != null ? after.sortKeyAsDateTime() : PageCursor.MAX_DATE_TIME, lastId, limit);
+				sortKey = FreeBoard::getCreatedAt;
+				break;
+		}
+
+		boolean hasMore = freeBoards.size() > size;
+		List<FreeBoard> page = hasMore ? freeBoards.subList(0, size) : freeBoards;
+
+		Set<Long> likedIds = likeService.getLikedTargetIds(username, "FreeBoard",
+			page.stream().map(FreeBoard::getId).toList());
+
+		List<FreeBoardResponse> content = page.stream()
+			.map(freeBoard -> toFreeBoardResponse(username, freeBoard, likedIds))
+			.toList();
+
+		String nextCursor = page.isEmpty() ? null
+			: PageCursor.encode(sortKey.apply(page.get(page.size() - 1)), page.get(page.size() - 1).getId());
+		return CursorResponse.of(content, nextCursor, size, hasMore);
+	}
+
+	private FreeBoardResponse toFreeBoardResponse(String username, FreeBoard freeBoard, Set<Long> likedIds) {
+		return FreeBoardResponse.builder()
+			.id(freeBoard.getId())
+			.title(freeBoard.getTitle())
+			.likes(freeBoard.getLikes())
+			.liked(likedIds.contains(freeBoard.getId()))
+			.content(freeBoard.getContent())
+			.createdAt(freeBoard.getCreatedAt())
+			.updatedAt(freeBoard.getUpdatedAt())
+			.userId(freeBoard.getUser().getUserId())
+			.isOwner(username != null && username.equals(freeBoard.getUser().getUserId()))
+			.build();
+	}
+
+	@Transactional(readOnly = true)
 	public FreeBoardDetailResponse getFreeBoardDetails(String username, Long id) {
-		FreeBoard freeBoard = freeBoardRepository.findById(id)
+		FreeBoard freeBoard = freeBoardRepository.findWithDetailsById(id)
 			.orElseThrow(() -> new EntityNotFoundException("FreeBoard not found"));
 		
-		// 🔧 조회수 증가 (본인이 아닌 경우에만)
+		// 🔧 조회수 증가 (본인이 아닌 경우에만, 반복 조회는 제외하고 버퍼에 누적 후 주기적으로 DB 반영)
 		if (username == null || !freeBoard.getUser().getUserId().equals(username)) {
-			freeBoard.incrementViewCount();
-			freeBoardRepository.save(freeBoard);
-			log.debug("자유게시글 조회수 증가: boardId={}, newViewCount={}", id, freeBoard.getViewCount());
+			viewCountService.recordView("FreeBoard", id, username);
 		}
 		
-		List<FreeBoardCommentResponse> freeBoardComments = freeBoardCommentRepository.findAllByFreeBoard(freeBoard)
+		List<FreeBoardCommentResponse> freeBoardComments = freeBoardCommentRepository.findAllWithUserByFreeBoard(freeBoard)
 			.stream()
 			.map(freeBoardComment -> FreeBoardCommentResponse.builder()
 				.id(freeBoardComment.getId())
@@ -137,7 +193,7 @@ public class FreeBoardService {
 				.build())
 			.toList();
 
-		List<FreeBoardImageResponse> images = freeBoardImageRepository.findAllByFreeBoard(freeBoard)
+		List<FreeBoardImageResponse> images = freeBoard.getImages()
 			.stream()
 			.sorted((img1, img2) -> img1.getImageOrder().compareTo(img2.getImageOrder()))
 			.map(image -> {
@@ -145,7 +201,7 @@ public class FreeBoardService {
 				String mimeType = imageUtil.getImageMimeType(image.getOriginalFileName());
 
 				// 이미지 파일 존재 여부 확인
-				String fullPath = "uploads/freeboard/" + image.getSavedFileName();
+				String fullPath = imageUtil.resolveImagePath(image.getSavedFileName(), "freeboard");
 				if (!imageUtil.imageExists(fullPath)) {
 					log.warn("이미지 파일이 존재하지 않음, 기본 URL 사용: imageId={}, path={}", image.getId(), fullPath);
 					imageUrl = imageUtil.getDefaultImageUrl();
@@ -156,6 +212,8 @@ public class FreeBoardService {
 					.id(image.getId())
 					.originalFileName(image.getOriginalFileName())
 					.imageUrl(imageUrl)
+					.thumbnailUrl(imageUtil.generateVariantUrl(image.getThumbnailFileName(), "freeboard", imageUrl))
+					.mediumUrl(imageUtil.generateVariantUrl(image.getMediumFileName(), "freeboard", imageUrl))
 					.mimeType(mimeType)
 					.imageOrder(image.getImageOrder())
 					.fileSize(image.getFileSize())
@@ -169,8 +227,8 @@ public class FreeBoardService {
 			.title(freeBoard.getTitle())
 			.content(freeBoard.getContent())
 			.likes(freeBoard.getLikes())
-			.liked(ResponseUtil.isLiked(username, "FreeBoard", freeBoard.getId(), likeRepository, userRepository))
-			.viewCount(freeBoard.getViewCount()) // 🔧 업데이트된 조회수 반영
+			.liked(likeService.isLiked(username, "FreeBoard", freeBoard.getId()))
+			.viewCount(viewCountService.getViewCount("FreeBoard", id, freeBoard.getViewCount())) // 🔧 반영 대기 중인 조회수 포함
 			.userId(freeBoard.getUser().getUserId())
 			.isOwner(username != null && username.equals(freeBoard.getUser().getUserId()))
 			.createdAt(freeBoard.getCreatedAt())
@@ -178,7 +236,14 @@ public class FreeBoardService {
 			.build();
 	}
 
-	public void updateFreeBoard(String username, Long id, String title, String content, List<MultipartFile> images) {
+	/**
+	 * 게시글 수정
+	 * manifest가 있으면 변경된 이미지만 처리 (유지하는 이미지는 파일/행을 그대로 두고 순서만 갱신)
+	 * 없으면 기존 이미지를 모두 지우고 images로 교체
+	 */
+	@Transactional
+	public void updateFreeBoard(String username, Long id, String title, String content, List<MultipartFile> images,
+		ImageEditManifest manifest) {
 		FreeBoard freeBoard = freeBoardRepository.findById(id)
 			.orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
@@ -192,42 +257,66 @@ public class FreeBoardService {
 		freeBoard.setContent(content);
 		freeBoard.setUpdatedAt(LocalDateTime.now());
 
-		// 기존 이미지들 삭제
 		List<FreeBoardImage> existingImages = freeBoardImageRepository.findAllByFreeBoard(freeBoard);
-		for (FreeBoardImage image : existingImages) {
-			try {
-				fileStorageUtil.deleteFreeBoardFile(image.getSavedFileName());
-			} catch (Exception e) {
-				log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+		List<MultipartFile> newImages = images != null ? images : List.of();
+		if (manifest == null) {
+			// 전체 교체 (manifest를 보내지 않는 기존 클라이언트)
+			deleteImages(existingImages);
+			for (int i = 0; i < newImages.size(); i++) {
+				MultipartFile image = newImages.get(i);
+				if (!image.isEmpty()) {
+					saveImage(freeBoard, image, i + 1);
+				}
 			}
-		}
-		freeBoardImageRepository.deleteAll(existingImages);
+		} else {
+			ImageEditPlan<FreeBoardImage> plan = ImageEditPlan.of(manifest, existingImages,
+				FreeBoardImage::getId, FreeBoardImage::getImageOrder, newImages.size(), MAX_IMAGES);
+			deleteImages(plan.getRemoved());
 
-		// 새 이미지들 추가
-		if (images != null && !images.isEmpty()) {
-			for (int i = 0; i < images.size(); i++) {
-				MultipartFile image = images.get(i);
-				if (!image.isEmpty()) {
-					String savedFileName = fileStorageUtil.saveFreeBoardFile(image);
-
-					FreeBoardImage freeBoardImage = FreeBoardImage.builder()
-						.freeBoard(freeBoard)
-						.imagePath("/uploads/freeboard/" + savedFileName)
-						.originalFileName(image.getOriginalFilename())
-						.savedFileName(savedFileName)
-						.fileSize(image.getSize())
-						.contentType(image.getContentType())
-						.imageOrder(i + 1)
-						.uploadedAt(LocalDateTime.now())
-						.build();
-
-					freeBoardImageRepository.save(freeBoardImage);
+			int order = 1;
+			for (ImageEditPlan.Slot<FreeBoardImage> slot : plan.getSlots()) {
+				if (slot.existing() != null) {
+					// 순서가 같으면 변경 감지에 걸리지 않아 UPDATE도 나가지 않음
+					slot.existing().setImageOrder(order++);
+				} else if (!newImages.get(slot.newIndex()).isEmpty()) {
+					saveImage(freeBoard, newImages.get(slot.newIndex()), order++);
 				}
 			}
 		}
 
 		freeBoardRepository.save(freeBoard);
 		log.info("자유게시글 수정 완료: freeBoardId={}, userId={}", id, username);
+		eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("FreeBoard"));
+	}
+
+	private void saveImage(FreeBoard freeBoard, MultipartFile image, int imageOrder) {
+		String savedFileName = fileStorageUtil.saveFreeBoardFile(image);
+
+		FreeBoardImage freeBoardImage = FreeBoardImage.builder()
+			.freeBoard(freeBoard)
+			.imagePath(imageUtil.generateImageUrl(savedFileName, "freeboard"))
+			.originalFileName(image.getOriginalFilename())
+			.savedFileName(savedFileName)
+			.fileSize(image.getSize())
+			.contentType(image.getContentType())
+			.imageOrder(imageOrder)
+			.uploadedAt(LocalDateTime.now())
+			.build();
+
+		freeBoardImageRepository.save(freeBoardImage);
+		eventPublisher.publishEvent(
+			new ImageVariantService.ImageUploadedEvent("freeboard", freeBoardImage.getId(), savedFileName));
+	}
+
+	private void deleteImages(List<FreeBoardImage> images) {
+		for (FreeBoardImage image : images) {
+			try {
+				fileStorageUtil.deleteFreeBoardFile(image.getSavedFileName());
+			} catch (Exception e) {
+				log.warn("기존 이미지 파일 삭제 실패: {}", image.getSavedFileName(), e);
+			}
+		}
+		freeBoardImageRepository.deleteAll(images);
 	}
 
 	public void deleteFreeBoard(String username, Long id) {
@@ -264,5 +353,6 @@ public class FreeBoardService {
 		// FreeBoard 삭제 (CASCADE로 연관된 이미지와 댓글들이 자동 삭제됨)
 		freeBoardRepository.delete(freeBoard);
 		log.info("자유게시글 삭제 완료: freeBoardId={}, userId={}", id, username);
+		eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("FreeBoard"));
 	}
 }
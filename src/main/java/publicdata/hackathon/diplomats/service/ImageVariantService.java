@@ -0,0 +1,135 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.domain.enums.ImageVariant;
+import publicdata.hackathon.diplomats.repository.DiaryImageRepository;
+import publicdata.hackathon.diplomats.repository.DiscussBoardImageRepository;
+import publicdata.hackathon.diplomats.repository.FreeBoardImageRepository;
+import publicdata.hackathon.diplomats.utils.ContentAddressedStore;
+import publicdata.hackathon.diplomats.utils.ImageResizer;
+import publicdata.hackathon.diplomats.utils.ImageUtil;
+
+/**
+ * 업로드 이미지 변환본 생성
+ * 게시글 저장 트랜잭션이 커밋된 뒤 백그라운드 스레드에서 썸네일/중간 크기 이미지를 만들고 이미지 행에 기록
+ * 변환 전이거나 변환할 수 없는 형식이면 응답에서 원본 URL을 그대로 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageVariantService {
+
+	private final FreeBoardImageRepository freeBoardImageRepository;
+	private final DiscussBoardImageRepository discussBoardImageRepository;
+	private final DiaryImageRepository diaryImageRepository;
+	private final ThreadPoolTaskExecutor imageVariantExecutor;
+	private final TransactionTemplate transactionTemplate;
+	private final ImageUtil imageUtil;
+
+	/**
+	 * 이미지 업로드 이벤트
+	 *
+	 * @param uploadType "freeboard", "discussboard", "diary"
+	 */
+	public record ImageUploadedEvent(String uploadType, Long imageId, String savedFileName) {
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onImageUploaded(ImageUploadedEvent event) {
+		try {
+			imageVariantExecutor.execute(() -> createVariants(event));
+		} catch (TaskRejectedException e) {
+			log.warn("이미지 변환 대기열이 가득 차 변환을 건너뜀: type={}, imageId={}", event.uploadType(), event.imageId());
+		}
+	}
+
+	private void createVariants(ImageUploadedEvent event) {
+		Path originalPath = Paths.get(imageUtil.resolveImagePath(event.savedFileName(), event.uploadType()));
+		Path directory = originalPath.getParent();
+		boolean shared = ContentAddressedStore.isBlobName(event.savedFileName());
+
+		if (shared) {
+			// 같은 내용이 이미 변환돼 있으면 다시 만들지 않고 파일명만 기록
+			Map<ImageVariant, String> existing = findExistingVariants(directory, event.savedFileName());
+			if (existing != null) {
+				transactionTemplate.execute(status -> updateVariants(event,
+					existing.get(ImageVariant.THUMBNAIL), existing.get(ImageVariant.MEDIUM)));
+				log.debug("기존 변환본 재사용: type={}, imageId={}", event.uploadType(), event.imageId());
+				return;
+			}
+		}
+
+		Map<ImageVariant, String> created = new EnumMap<>(ImageVariant.class);
+		try {
+			BufferedImage original = ImageResizer.read(originalPath);
+			if (original == null) {
+				log.debug("변환할 수 없는 이미지 형식, 원본 사용: {}", event.savedFileName());
+				return;
+			}
+			for (ImageVariant variant : ImageVariant.values()) {
+				created.put(variant, ImageResizer.write(original, directory, event.savedFileName(), variant));
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("이미지 변환 실패, 원본 사용: type={}, file={}, error={}",
+				event.uploadType(), event.savedFileName(), e.getMessage());
+			deleteQuietly(directory, created);
+			return;
+		}
+
+		Integer updated = transactionTemplate.execute(status -> updateVariants(event,
+			created.get(ImageVariant.THUMBNAIL), created.get(ImageVariant.MEDIUM)));
+		if (updated == null || updated == 0) {
+			// 변환하는 사이 게시글/이미지가 삭제된 경우 - 공유 파일은 다른 이미지가 아직 쓰고 있으면 유지
+			if (!shared || !Files.exists(originalPath)) {
+				deleteQuietly(directory, created);
+			}
+			return;
+		}
+		log.debug("이미지 변환 완료: type={}, imageId={}, variants={}", event.uploadType(), event.imageId(), created);
+	}
+
+	private int updateVariants(ImageUploadedEvent event, String thumbnail, String medium) {
+		return switch (event.uploadType()) {
+			case "freeboard" -> freeBoardImageRepository.updateVariants(event.imageId(), thumbnail, medium);
+			case "discussboard" -> discussBoardImageRepository.updateVariants(event.imageId(), thumbnail, medium);
+			case "diary" -> diaryImageRepository.updateVariants(event.imageId(), thumbnail, medium);
+			default -> throw new IllegalArgumentException("알 수 없는 업로드 유형: " + event.uploadType());
+		};
+	}
+
+	private Map<ImageVariant, String> findExistingVariants(Path directory, String savedFileName) {
+		Map<ImageVariant, String> existing = new EnumMap<>(ImageVariant.class);
+		for (ImageVariant variant : ImageVariant.values()) {
+			variant.candidateFileNamesFor(savedFileName).stream()
+				.filter(fileName -> Files.exists(directory.resolve(fileName)))
+				.findFirst()
+				.ifPresent(fileName -> existing.put(variant, fileName));
+		}
+		return existing.size() == ImageVariant.values().length ? existing : null;
+	}
+
+	private void deleteQuietly(Path directory, Map<ImageVariant, String> files) {
+		for (String fileName : files.values()) {
+			try {
+				Files.deleteIfExists(directory.resolve(fileName));
+			} catch (IOException e) {
+				log.warn("이미지 변환본 삭제 실패: {}", fileName);
+			}
+		}
+	}
+}
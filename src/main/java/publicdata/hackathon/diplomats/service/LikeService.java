@@ -1,5 +1,10 @@
 package publicdata.hackathon.diplomats.service;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,16 +13,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.response.LikeResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.StampEarnedResponse;
-import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
 import publicdata.hackathon.diplomats.domain.entity.Diary;
-import publicdata.hackathon.diplomats.domain.entity.FreeBoard;
 import publicdata.hackathon.diplomats.domain.entity.Like;
 import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.repository.DiscussBoardRepository;
 import publicdata.hackathon.diplomats.repository.DiaryRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardRepository;
 import publicdata.hackathon.diplomats.repository.LikeRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -26,28 +28,23 @@ import publicdata.hackathon.diplomats.repository.UserRepository;
 public class LikeService {
     
     private final LikeRepository likeRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final FreeBoardRepository freeBoardRepository;
     private final DiscussBoardRepository discussBoardRepository;
     private final DiaryRepository diaryRepository;
     private final StampService stampService;
+    private final ApplicationEventPublisher eventPublisher;
     
     public LikeResponse toggleLike(String username, String targetType, Long targetId) {
-        User user = userRepository.findByUserId(username)
+        User user = userCacheService.findUser(username)
             .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
         
-        // 게시글 존재 여부 확인
-        validateTargetExists(targetType, targetId);
-        
-        // 이미 좋아요를 눌렀는지 확인
-        boolean alreadyLiked = likeRepository.existsByUserAndTargetTypeAndTargetId(user, targetType, targetId);
+        // 좋아요 취소를 먼저 시도 - 삭제된 행이 있으면 이미 좋아요를 누른 상태였음
+        boolean alreadyLiked = likeRepository.deleteLike(user.getId(), targetType, targetId) > 0;
         
         if (alreadyLiked) {
             // 좋아요 취소
-            likeRepository.deleteByUserAndTargetTypeAndTargetId(user, targetType, targetId);
-            updateLikeCount(targetType, targetId, -1);
-            
-            long likeCount = likeRepository.countByTargetTypeAndTargetId(targetType, targetId);
+            long likeCount = updateLikeCount(targetType, targetId, -1);
             return LikeResponse.builder()
                 .isLiked(false)
                 .likeCount(likeCount)
@@ -62,7 +59,7 @@ public class LikeService {
                 .build();
             
             likeRepository.save(like);
-            updateLikeCount(targetType, targetId, 1);
+            long likeCount = updateLikeCount(targetType, targetId, 1);
             
             // 🎯 실천일기에 좋아요를 받았을 때 작성자에게 스탬프 지급 (자기 글이 아닌 경우에만)
             if ("Diary".equals(targetType)) {
@@ -83,7 +80,6 @@ public class LikeService {
                 }
             }
             
-            long likeCount = likeRepository.countByTargetTypeAndTargetId(targetType, targetId);
             return LikeResponse.builder()
                 .isLiked(true)
                 .likeCount(likeCount)
@@ -93,7 +89,7 @@ public class LikeService {
     }
     
     public LikeResponse getLikeStatus(String username, String targetType, Long targetId) {
-        User user = userRepository.findByUserId(username)
+        User user = userCacheService.findUser(username)
             .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
         
         boolean isLiked = likeRepository.existsByUserAndTargetTypeAndTargetId(user, targetType, targetId);
@@ -106,53 +102,71 @@ public class LikeService {
             .build();
     }
     
-    private void validateTargetExists(String targetType, Long targetId) {
+    /**
+     * 단건 좋아요 여부 조회 (상세 페이지용)
+     */
+    @Transactional(readOnly = true)
+    public boolean isLiked(String username, String targetType, Long targetId) {
+        if (username == null || targetId == null) {
+            return false;
+        }
+        
+        return userCacheService.findUser(username)
+            .map(user -> likeRepository.existsByUserAndTargetTypeAndTargetId(user, targetType, targetId))
+            .orElse(false);
+    }
+    
+    /**
+     * 목록 페이지의 좋아요 상태 일괄 조회
+     * 게시글마다 조회하지 않고 한 번의 쿼리로 사용자가 좋아요를 누른 대상 ID만 반환
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedTargetIds(String username, String targetType, Collection<Long> targetIds) {
+        if (username == null || targetIds == null || targetIds.isEmpty()) {
+            return Set.of();
+        }
+        
+        return userCacheService.findUser(username)
+            .map(user -> likeRepository.findByUserAndTargetTypeAndTargetIdIn(user, targetType, targetIds)
+                .stream()
+                .map(LikeRepository.LikedTarget::getTargetId)
+                .collect(Collectors.toSet()))
+            .orElse(Set.of());
+    }
+    
+    /**
+     * 게시글 좋아요 수를 UPDATE 한 번으로 증감하고 변경된 좋아요 수 반환
+     * 갱신된 행이 없으면 대상 게시글이 없는 것이므로 예외 발생 (트랜잭션 롤백)
+     */
+    private long updateLikeCount(String targetType, Long targetId, int delta) {
+        Integer likes;
         switch (targetType) {
             case "FreeBoard":
-                if (!freeBoardRepository.existsById(targetId)) {
+                if (freeBoardRepository.updateLikes(targetId, delta) == 0) {
                     throw new EntityNotFoundException("자유게시판 게시글을 찾을 수 없습니다.");
                 }
+                likes = freeBoardRepository.findLikesById(targetId);
                 break;
+                
             case "DiscussBoard":
-                if (!discussBoardRepository.existsById(targetId)) {
+                if (discussBoardRepository.updateLikes(targetId, delta) == 0) {
                     throw new EntityNotFoundException("토론게시판 게시글을 찾을 수 없습니다.");
                 }
+                likes = discussBoardRepository.findLikesById(targetId);
                 break;
+                
             case "Diary":
-                if (!diaryRepository.existsById(targetId)) {
+                if (diaryRepository.updateLikes(targetId, delta) == 0) {
                     throw new EntityNotFoundException("일지를 찾을 수 없습니다.");
                 }
-                break;
-            default:
-                throw new RuntimeException("지원하지 않는 타겟 타입입니다: " + targetType);
-        }
-    }
-    
-    private void updateLikeCount(String targetType, Long targetId, int delta) {
-        switch (targetType) {
-            case "FreeBoard":
-                FreeBoard freeBoard = freeBoardRepository.findById(targetId)
-                    .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-                freeBoard.setLikes(freeBoard.getLikes() + delta);
-                freeBoardRepository.save(freeBoard);
-                break;
-                
-            case "DiscussBoard":
-                DiscussBoard discussBoard = discussBoardRepository.findById(targetId)
-                    .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-                discussBoard.setLikes(discussBoard.getLikes() + delta);
-                discussBoardRepository.save(discussBoard);
-                break;
-                
-            case "Diary":
-                Diary diary = diaryRepository.findById(targetId)
-                    .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
-                diary.setLikes(diary.getLikes() + delta);
-                diaryRepository.save(diary);
+                likes = diaryRepository.findLikesById(targetId);
                 break;
                 
             default:
                 throw new RuntimeException("지원하지 않는 타겟 타입입니다: " + targetType);
         }
+        // 메인페이지 인기글/일지의 좋아요 수가 바뀌므로 캐시 무효화
+        eventPublisher.publishEvent(new MainPageService.MainPageChangedEvent("Like"));
+        return likes != null ? likes : 0;
     }
 }
@@ -5,10 +5,13 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,17 +23,13 @@ import publicdata.hackathon.diplomats.domain.entity.Diary;
 import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
 import publicdata.hackathon.diplomats.domain.entity.FreeBoard;
 import publicdata.hackathon.diplomats.domain.entity.PressRelease;
-import publicdata.hackathon.diplomats.repository.DiaryCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiaryRepository;
-import publicdata.hackathon.diplomats.repository.DiscussBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiscussBoardRepository;
-import publicdata.hackathon.diplomats.repository.FreeBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardRepository;
 import publicdata.hackathon.diplomats.repository.PressReleaseRepository;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class MainPageService {
 
@@ -38,16 +37,79 @@ public class MainPageService {
     private final FreeBoardRepository freeBoardRepository;
     private final PressReleaseRepository pressReleaseRepository;
     private final DiscussBoardRepository discussBoardRepository;
-    
-    // 댓글 수 조회를 위한 Repository 추가
-    private final DiaryCommentRepository diaryCommentRepository;
-    private final FreeBoardCommentRepository freeBoardCommentRepository;
-    private final DiscussBoardCommentRepository discussBoardCommentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${diplomats.main-page.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    // 조립된 메인페이지 응답 캐시 (TTL 만료 또는 MainPageChangedEvent 발생시 비움)
+    private volatile CachedMainPage cachedMainPage;
+    // 조회 중에 무효화가 일어나면 이전 데이터를 캐시에 넣지 않기 위한 버전
+    private long cacheVersion;
+    private final Object loadLock = new Object();
 
     /**
-     * 메인페이지 전체 데이터 조회
+     * 메인페이지 데이터가 바뀌었음을 알리는 이벤트 (게시글/일지 작성·수정·삭제, 좋아요, 보도자료 갱신)
+     */
+    public record MainPageChangedEvent(String source) {
+    }
+
+    /**
+     * 메인페이지 전체 데이터 조회 - 캐시가 유효하면 DB를 조회하지 않음
      */
     public MainPageResponse getMainPageData() {
+        CachedMainPage cached = cachedMainPage;
+        if (cached != null && cached.isValid()) {
+            return cached.response();
+        }
+
+        // 캐시 만료 직후 동시 요청이 몰려도 DB 조회는 한 번만 수행
+        synchronized (loadLock) {
+            cached = cachedMainPage;
+            if (cached != null && cached.isValid()) {
+                return cached.response();
+            }
+
+            long version = currentCacheVersion();
+            TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+            readOnlyTransaction.setReadOnly(true);
+            MainPageResponse response = readOnlyTransaction.execute(status -> loadMainPageData());
+
+            synchronized (this) {
+                if (cacheVersion == version) {
+                    cachedMainPage = new CachedMainPage(response,
+                        System.currentTimeMillis() + cacheTtlSeconds * 1000);
+                }
+            }
+            return response;
+        }
+    }
+
+    /**
+     * 메인페이지에 노출되는 데이터 변경시 캐시 무효화 (트랜잭션 커밋 이후 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMainPageChanged(MainPageChangedEvent event) {
+        evictCache();
+        log.debug("메인페이지 캐시 무효화: source={}", event.source());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPressReleasesUpdated(PressReleaseService.PressReleasesUpdatedEvent event) {
+        evictCache();
+        log.debug("메인페이지 캐시 무효화: source=PressRelease");
+    }
+
+    public synchronized void evictCache() {
+        cacheVersion++;
+        cachedMainPage = null;
+    }
+
+    private synchronized long currentCacheVersion() {
+        return cacheVersion;
+    }
+
+    private MainPageResponse loadMainPageData() {
         log.info("메인페이지 데이터 조회 시작");
 
         // 각각 3개씩 조회
@@ -74,7 +136,6 @@ public class MainPageService {
 
         return diaries.stream()
             .map(diary -> {
-                int commentCount = (int) diaryCommentRepository.countByDiary(diary);
                 return DiaryResponse.builder()
                     .id(diary.getId())
                     .title(diary.getTitle())
@@ -82,7 +143,7 @@ public class MainPageService {
                     .action(diary.getAction())
                     .likes(diary.getLikes())
                     .viewCount(diary.getViewCount())
-                    .commentCount(commentCount) // 🔧 댓글 수 추가
+                    .commentCount(diary.getCommentCount()) // 🔧 댓글 수 추가
                     .createdAt(diary.getCreatedAt())
                     .updatedAt(diary.getUpdatedAt())
                     .userId(diary.getWriter().getUserId())
@@ -96,7 +157,7 @@ public class MainPageService {
      */
     private List<NewsResponse> getRecentNews() {
         Pageable top3 = PageRequest.of(0, 3);
-        List<PressRelease> newsList = pressReleaseRepository.findAllByOrderByPublishDateDesc(top3);
+        List<PressRelease> newsList = pressReleaseRepository.findAllByActiveTrueOrderByPublishDateDesc(top3);
 
         return newsList.stream()
             .map(news -> NewsResponse.builder()
@@ -130,7 +191,6 @@ public class MainPageService {
         // 자유게시판 변환
         List<CommunityPostResponse> freeBoardResponses = popularFreeBoards.stream()
             .map(board -> {
-                int commentCount = (int) freeBoardCommentRepository.countByFreeBoard(board);
                 return CommunityPostResponse.builder()
                     .id(board.getId())
                     .title(board.getTitle())
@@ -139,7 +199,7 @@ public class MainPageService {
                     .authorName(board.getUser().getUserId())
                     .authorId(board.getUser().getUserId())
                     .likes(board.getLikes())
-                    .commentCount(commentCount) // 🔧 댓글 수 추가
+                    .commentCount(board.getCommentCount()) // 🔧 댓글 수 추가
                     .viewCount(board.getViewCount())
                     .createdAt(board.getCreatedAt())
                     .updatedAt(board.getUpdatedAt())
@@ -152,7 +212,6 @@ public class MainPageService {
         // 토론게시판 변환
         List<CommunityPostResponse> discussBoardResponses = popularDiscussBoards.stream()
             .map(board -> {
-                int commentCount = (int) discussBoardCommentRepository.countByDiscussBoard(board);
                 return CommunityPostResponse.builder()
                     .id(board.getId())
                     .title(board.getTitle())
@@ -161,7 +220,7 @@ public class MainPageService {
                     .authorName(board.getUser().getUserId())
                     .authorId(board.getUser().getUserId())
                     .likes(board.getLikes())
-                    .commentCount(commentCount) // 🔧 댓글 수 추가
+                    .commentCount(board.getCommentCount()) // 🔧 댓글 수 추가
                     .viewCount(board.getViewCount())
                     .createdAt(board.getCreatedAt())
                     .updatedAt(board.getUpdatedAt())
@@ -183,6 +242,12 @@ public class MainPageService {
             .collect(Collectors.toList());
     }
 
+    private record CachedMainPage(MainPageResponse response, long expiresAt) {
+        boolean isValid() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+
     /**
      * 텍스트 요약 생성 (150자 제한)
      */
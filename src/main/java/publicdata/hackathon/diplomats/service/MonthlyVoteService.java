@@ -36,7 +36,6 @@ import publicdata.hackathon.diplomats.repository.MonthlyVoteRepository;
 import publicdata.hackathon.diplomats.repository.OdaVoteCandidateRepository;
 import publicdata.hackathon.diplomats.repository.OdaVoteRepository;
 import publicdata.hackathon.diplomats.repository.UserOdaVoteRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 import publicdata.hackathon.diplomats.repository.UserVoteRepository;
 import publicdata.hackathon.diplomats.repository.VoteCandidateRepository;
 import publicdata.hackathon.diplomats.utils.SecurityUtils;
@@ -51,7 +50,7 @@ public class MonthlyVoteService {
 	private final VoteCandidateRepository voteCandidateRepository;
 	private final UserVoteRepository userVoteRepository;
 	private final DiaryRepository diaryRepository;
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final StampService stampService;
 	private final OdaVoteRepository odaVoteRepository;
 	private final OdaVoteCandidateRepository odaVoteCandidateRepository;
@@ -149,7 +148,7 @@ public class MonthlyVoteService {
 			LocalDateTime userVotedAt = null;
 			
 			if (username != null) {
-				User user = userRepository.findByUserId(username).orElse(null);
+				User user = userCacheService.findUser(username).orElse(null);
 				if (user != null) {
 					Optional<UserVote> userVote = userVoteRepository.findByUserAndMonthlyVote(user, vote);
 					if (userVote.isPresent()) {
@@ -18,26 +18,19 @@ import publicdata.hackathon.diplomats.domain.entity.DiscussBoard;
 import publicdata.hackathon.diplomats.domain.entity.FreeBoard;
 import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.domain.enums.PostType;
-import publicdata.hackathon.diplomats.repository.DiaryCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiaryRepository;
-import publicdata.hackathon.diplomats.repository.DiscussBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.DiscussBoardRepository;
-import publicdata.hackathon.diplomats.repository.FreeBoardCommentRepository;
 import publicdata.hackathon.diplomats.repository.FreeBoardRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MyPostsService {
 
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final FreeBoardRepository freeBoardRepository;
 	private final DiscussBoardRepository discussBoardRepository;
 	private final DiaryRepository diaryRepository;
-	private final FreeBoardCommentRepository freeBoardCommentRepository;
-	private final DiscussBoardCommentRepository discussBoardCommentRepository;
-	private final DiaryCommentRepository diaryCommentRepository;
 
 	/**
 	 * 내가 작성한 게시글 모아보기
@@ -46,7 +39,7 @@ public class MyPostsService {
 	 * @param pageable 페이징 정보
 	 */
 	public MyPostsResponse getMyPosts(String username, String filter, Pageable pageable) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
 		List<MyPostItemResponse> allPosts = new ArrayList<>();
@@ -107,8 +100,6 @@ public class MyPostsService {
 		
 		return freeBoards.stream()
 			.map(freeBoard -> {
-				long commentCount = freeBoardCommentRepository.countByFreeBoard(freeBoard);
-				
 				return MyPostItemResponse.builder()
 					.id(freeBoard.getId())
 					.title(freeBoard.getTitle())
@@ -116,7 +107,7 @@ public class MyPostsService {
 					.postType(PostType.FREE_BOARD)
 					.likes(freeBoard.getLikes())
 					.viewCount(freeBoard.getViewCount())
-					.commentCount((int) commentCount)
+					.commentCount(freeBoard.getCommentCount())
 					.createdAt(freeBoard.getCreatedAt())
 					.updatedAt(freeBoard.getUpdatedAt())
 					.build();
@@ -132,8 +123,6 @@ public class MyPostsService {
 		
 		return discussBoards.stream()
 			.map(discussBoard -> {
-				long commentCount = discussBoardCommentRepository.countByDiscussBoard(discussBoard);
-				
 				return MyPostItemResponse.builder()
 					.id(discussBoard.getId())
 					.title(discussBoard.getTitle())
@@ -142,7 +131,7 @@ public class MyPostsService {
 					.discussType(discussBoard.getDiscussType())
 					.likes(discussBoard.getLikes())
 					.viewCount(discussBoard.getViewCount())
-					.commentCount((int) commentCount)
+					.commentCount(discussBoard.getCommentCount())
 					.createdAt(discussBoard.getCreatedAt())
 					.updatedAt(discussBoard.getUpdatedAt())
 					.build();
@@ -158,8 +147,6 @@ public class MyPostsService {
 		
 		return diaries.stream()
 			.map(diary -> {
-				long commentCount = diaryCommentRepository.countByDiary(diary);
-				
 				return MyPostItemResponse.builder()
 					.id(diary.getId())
 					.title(diary.getTitle())
@@ -168,7 +155,7 @@ public class MyPostsService {
 					.action(diary.getAction())
 					.likes(diary.getLikes())
 					.viewCount(diary.getViewCount())
-					.commentCount((int) commentCount)
+					.commentCount(diary.getCommentCount())
 					.createdAt(diary.getCreatedAt())
 					.updatedAt(diary.getUpdatedAt())
 					.build();
@@ -0,0 +1,93 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.domain.dto.response.FilterOption;
+import publicdata.hackathon.diplomats.domain.enums.NewsFilter;
+import publicdata.hackathon.diplomats.repository.PressReleaseRepository;
+
+/**
+ * 뉴스 필터별 개수 스냅샷
+ * 보도자료 수집이 끝날 때마다 한 번 계산해 메모리에 두고, 뉴스 목록 조회시에는 DB를 조회하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsFacetService {
+
+	private static final List<NewsFilter> KEYWORD_FILTERS = List.of(
+		NewsFilter.ESG, NewsFilter.CLIMATE, NewsFilter.CULTURE, NewsFilter.ODA);
+
+	private final PressReleaseRepository pressReleaseRepository;
+
+	private volatile List<FilterOption> filterOptions;
+
+	/**
+	 * 필터 옵션 목록 (전체 + 키워드 필터별 개수)
+	 */
+	public List<FilterOption> getFilterOptions() {
+		List<FilterOption> current = filterOptions;
+		if (current == null) {
+			// 시작시 계산에 실패한 경우에만 요청 중에 계산
+			current = refresh();
+		}
+		return current;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initOnStartup() {
+		try {
+			refresh();
+		} catch (Exception e) {
+			log.error("뉴스 필터 개수 초기화 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onPressReleasesUpdated(PressReleaseService.PressReleasesUpdatedEvent event) {
+		refresh();
+	}
+
+	/**
+	 * 수집시 저장한 카테고리 기준으로 필터별 개수 계산 (GROUP BY 한 번)
+	 */
+	public synchronized List<FilterOption> refresh() {
+		long total = pressReleaseRepository.countByActiveTrue();
+
+		Map<NewsFilter, Long> counts = new EnumMap<>(NewsFilter.class);
+		for (Object[] row : pressReleaseRepository.countByEachCategory()) {
+			counts.put((NewsFilter)row[0], (Long)row[1]);
+		}
+
+		List<FilterOption> options = new ArrayList<>();
+		options.add(FilterOption.builder()
+			.value("ALL")
+			.display("전체")
+			.count(total)
+			.build());
+		for (NewsFilter filter : KEYWORD_FILTERS) {
+			options.add(FilterOption.builder()
+				.value(filter.name())
+				.display(filter.getDisplayName())
+				.count(counts.getOrDefault(filter, 0L))
+				.build());
+		}
+
+		this.filterOptions = List.copyOf(options);
+		log.info("뉴스 필터 개수 갱신 완료: 전체 {}개, {}", total, counts);
+		return this.filterOptions;
+	}
+}
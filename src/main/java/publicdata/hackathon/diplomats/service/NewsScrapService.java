@@ -18,9 +18,9 @@ import publicdata.hackathon.diplomats.domain.dto.response.ScrapResponse;
 import publicdata.hackathon.diplomats.domain.entity.NewsScrap;
 import publicdata.hackathon.diplomats.domain.entity.PressRelease;
 import publicdata.hackathon.diplomats.domain.entity.User;
+import publicdata.hackathon.diplomats.domain.enums.NewsFilter;
 import publicdata.hackathon.diplomats.repository.NewsScrapRepository;
 import publicdata.hackathon.diplomats.repository.PressReleaseRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -29,10 +29,10 @@ public class NewsScrapService {
 
 	private final NewsScrapRepository newsScrapRepository;
 	private final PressReleaseRepository pressReleaseRepository;
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 
 	public ScrapResponse toggleScrap(String username, Long newsId) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
 		PressRelease pressRelease = pressReleaseRepository.findById(newsId)
@@ -71,7 +71,7 @@ public class NewsScrapService {
 
 	@Transactional(readOnly = true)
 	public boolean isNewsScrappedByUser(String username, Long newsId) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
 		PressRelease pressRelease = pressReleaseRepository.findById(newsId)
@@ -82,7 +82,7 @@ public class NewsScrapService {
 
 	@Transactional(readOnly = true)
 	public ScrapResponse getScrapStatus(String username, Long newsId) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
 		PressRelease pressRelease = pressReleaseRepository.findById(newsId)
@@ -100,7 +100,7 @@ public class NewsScrapService {
 
 	@Transactional(readOnly = true)
 	public MyScrapListResponse getMyScraps(String username, int page, int size) {
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
 		Pageable pageable = PageRequest.of(page, size);
@@ -129,7 +129,7 @@ public class NewsScrapService {
 
 	private ScrapItem convertToScrapItem(NewsScrap scrap) {
 		PressRelease pressRelease = scrap.getPressRelease();
-		String category = determineCategory(pressRelease);
+		String category = pressRelease.getCategory() != null ? pressRelease.getCategory() : NewsFilter.GENERAL;
 		String summary = createSummary(pressRelease.getContent());
 
 		return ScrapItem.builder()
@@ -146,24 +146,6 @@ public class NewsScrapService {
 			.build();
 	}
 
-	private String determineCategory(PressRelease pressRelease) {
-		// NewsService와 동일한 로직 사용
-		String text = (pressRelease.getTitle() + " " + pressRelease.getContent()).toLowerCase();
-
-		// 간단한 키워드 매칭
-		if (text.contains("기후") || text.contains("환경") || text.contains("탄소")) {
-			return "CLIMATE";
-		} else if (text.contains("문화") || text.contains("예술") || text.contains("한류")) {
-			return "CULTURE";
-		} else if (text.contains("oda") || text.contains("개발협력") || text.contains("원조")) {
-			return "ODA";
-		} else if (text.contains("esg") || text.contains("지속가능")) {
-			return "ESG";
-		}
-
-		return "GENERAL";
-	}
-
 	private String getCategoryDisplay(String category) {
 		switch (category) {
 			case "CLIMATE": return "기후";
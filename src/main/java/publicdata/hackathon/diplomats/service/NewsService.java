@@ -1,8 +1,7 @@
 // NewsService.java
 package publicdata.hackathon.diplomats.service;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,8 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import publicdata.hackathon.diplomats.domain.dto.response.CursorResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.FilterInfo;
-import publicdata.hackathon.diplomats.domain.dto.response.FilterOption;
 import publicdata.hackathon.diplomats.domain.dto.response.NewsItem;
 import publicdata.hackathon.diplomats.domain.dto.response.NewsListResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.PaginationInfo;
@@ -24,7 +23,7 @@ import publicdata.hackathon.diplomats.domain.entity.PressRelease;
 import publicdata.hackathon.diplomats.domain.entity.User;
 import publicdata.hackathon.diplomats.domain.enums.NewsFilter;
 import publicdata.hackathon.diplomats.repository.PressReleaseRepository;
-import publicdata.hackathon.diplomats.repository.UserRepository;
+import publicdata.hackathon.diplomats.utils.PageCursor;
 
 @Service
 @RequiredArgsConstructor
@@ -32,8 +31,9 @@ import publicdata.hackathon.diplomats.repository.UserRepository;
 public class NewsService {
 
 	private final PressReleaseRepository pressReleaseRepository;
-	private final UserRepository userRepository;
+	private final UserCacheService userCacheService;
 	private final @Lazy NewsScrapService newsScrapService;
+	private final NewsFacetService newsFacetService;
 
 	public NewsListResponse getNews(String filter, int page, int size, String userId) {
 		Pageable pageable = PageRequest.of(page, size);
@@ -66,6 +66,47 @@ public class NewsService {
 			.build();
 	}
 
+	/**
+	 * 커서 기반 뉴스 조회 - 마지막으로 본 뉴스의 (게시일, id) 다음부터 size 개 조회 (전체 개수는 세지 않음)
+	 */
+	public NewsListResponse getNewsByCursor(String filter, String cursor, int size, String userId) {
+		NewsFilter newsFilter = parseFilter(filter);
+		PageCursor after = PageCursor.decode(cursor);
+		LocalDate lastPublishDate = after != null ? after.sortKeyAsDate() : PageCursor.MAX_DATE;
+		Long lastId = after != null ? after.id() : Long.MAX_VALUE;
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		Pageable limit = PageRequest.of(0, size + 1);
+
+		List<PressRelease> pressReleases;
+		if (newsFilter == NewsFilter.ALL) {
+			pressReleases = pressReleaseRepository.findPageAfterPublishDate(lastPublishDate, lastId, limit);
+		} else {
+			pressReleases = pressReleaseRepository.findPageByCategoryAfterPublishDate(
+				newsFilter, lastPublishDate, lastId, limit);
+		}
+
+		boolean hasMore = pressReleases.size() > size;
+		List<PressRelease> page = hasMore ? pressReleases.subList(0, size) : pressReleases;
+
+		List<NewsItem> newsItems = page.stream()
+			.map(pressRelease -> convertToNewsItem(pressRelease, newsFilter, userId))
+			.collect(Collectors.toList());
+
+		String nextCursor = null;
+		if (!page.isEmpty()) {
+			PressRelease last = page.get(page.size() - 1);
+			nextCursor = PageCursor.encode(last.getPublishDate(), last.getId());
+		}
+
+		return NewsListResponse.builder()
+			.news(newsItems)
+			.cursor(CursorResponse.meta(nextCursor, size, hasMore))
+			.filter(buildFilterInfo(newsFilter))
+			.citizenType(null)
+			.citizenTypeDisplay(null)
+			.build();
+	}
+
 	private NewsFilter parseFilter(String filter) {
 		if (filter == null || filter.isEmpty()) {
 			return NewsFilter.ALL;
@@ -84,27 +125,16 @@ public class NewsService {
 			case CLIMATE:
 			case CULTURE:
 			case ODA:
-				return findNewsByKeywords(filter.getKeywords(), pageable);
+				return pressReleaseRepository.findByCategory(filter, pageable);
 			case ALL:
 			default:
-				return pressReleaseRepository.findAllByOrderByPublishDateDescCreatedAtDesc(pageable);
+				return pressReleaseRepository.findAllByActiveTrueOrderByPublishDateDescCreatedAtDesc(pageable);
 		}
 	}
 
-	private Page<PressRelease> findNewsByKeywords(List<String> keywords, Pageable pageable) {
-		String keyword1 = !keywords.isEmpty() ? keywords.get(0) : null;
-		String keyword2 = keywords.size() > 1 ? keywords.get(1) : null;
-		String keyword3 = keywords.size() > 2 ? keywords.get(2) : null;
-		String keyword4 = keywords.size() > 3 ? keywords.get(3) : null;
-		String keyword5 = keywords.size() > 4 ? keywords.get(4) : null;
-
-		return pressReleaseRepository.findByKeywordsContaining(
-			keyword1, keyword2, keyword3, keyword4, keyword5, pageable
-		);
-	}
-
 	private NewsItem convertToNewsItem(PressRelease pressRelease, NewsFilter filter, String userId) {
-		String category = determineCategory(pressRelease);
+		// 수집시 저장한 대표 카테고리 사용
+		String category = pressRelease.getCategory() != null ? pressRelease.getCategory() : NewsFilter.GENERAL;
 		String summary = createSummary(pressRelease.getContent());
 		
 		// 스크랩 상태 확인
@@ -131,24 +161,6 @@ public class NewsService {
 			.build();
 	}
 
-	private String determineCategory(PressRelease pressRelease) {
-		String text = (pressRelease.getTitle() + " " + pressRelease.getContent()).toLowerCase();
-
-		// 우선순위대로 체크
-		for (NewsFilter filter : Arrays.asList(NewsFilter.ESG, NewsFilter.CLIMATE, NewsFilter.CULTURE,
-			NewsFilter.ODA)) {
-			if (filter.getKeywords() != null) {
-				for (String keyword : filter.getKeywords()) {
-					if (text.contains(keyword.toLowerCase())) {
-						return filter.name();
-					}
-				}
-			}
-		}
-
-		return "GENERAL"; // 일반 뉴스
-	}
-
 	private String getCategoryDisplay(String category) {
 		try {
 			NewsFilter filter = NewsFilter.valueOf(category);
@@ -172,48 +184,17 @@ public class NewsService {
 	}
 
 	private FilterInfo buildFilterInfo(NewsFilter currentFilter) {
-		// 사용 가능한 필터 옵션들
-		List<FilterOption> availableFilters = new ArrayList<>();
-
-		// 전체 개수
-		long totalCount = pressReleaseRepository.count();
-		availableFilters.add(FilterOption.builder()
-			.value("ALL")
-			.display("전체")
-			.count(totalCount)
-			.build());
-
-		// 각 필터별 개수 계산
-		for (NewsFilter filter : Arrays.asList(NewsFilter.ESG, NewsFilter.CLIMATE, NewsFilter.CULTURE,
-			NewsFilter.ODA)) {
-			long count = calculateFilterCount(filter);
-			availableFilters.add(FilterOption.builder()
-				.value(filter.name())
-				.display(filter.getDisplayName())
-				.count(count)
-				.build());
-		}
-
+		// 필터별 개수는 보도자료 수집시 계산해 둔 스냅샷 사용
 		return FilterInfo.builder()
 			.currentFilter(currentFilter.name())
 			.currentFilterDisplay(currentFilter.getDisplayName())
-			.availableFilters(availableFilters)
+			.availableFilters(newsFacetService.getFilterOptions())
 			.build();
 	}
 
-	private long calculateFilterCount(NewsFilter filter) {
-		if (filter.getKeywords() == null || filter.getKeywords().isEmpty()) {
-			return 0;
-		}
-
-		// 간단한 구현: 첫 번째 키워드로만 계산
-		// 실제로는 모든 키워드를 고려한 정확한 계산 필요
-		return pressReleaseRepository.countByKeywordContaining(filter.getKeywords().get(0));
-	}
-
 	public NewsListResponse getPersonalizedNews(String username, int page, int size) {
 		// 사용자 조회
-		User user = userRepository.findByUserId(username)
+		User user = userCacheService.findUser(username)
 			.orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
 		// 사용자의 시민력 유형 확인
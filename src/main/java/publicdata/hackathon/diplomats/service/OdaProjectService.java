@@ -2,22 +2,26 @@ package publicdata.hackathon.diplomats.service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.response.OdaApiResponse;
 import publicdata.hackathon.diplomats.domain.entity.OdaProject;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository.Dataset;
 import publicdata.hackathon.diplomats.repository.OdaProjectRepository;
+import publicdata.hackathon.diplomats.utils.KeywordMatcher;
+import publicdata.hackathon.diplomats.utils.OpenApiItemReader;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +30,19 @@ import publicdata.hackathon.diplomats.repository.OdaProjectRepository;
 public class OdaProjectService {
 
 	private final OdaProjectRepository odaProjectRepository;
-	private final RestTemplate restTemplate;
+	private final IngestionBatchRepository ingestionBatchRepository;
+	private final OpenApiItemReader openApiItemReader;
 
 	@Value("${openapi.mofa.service-key}")
 	private String serviceKey;
 
+	// API 서버 주소 (replay 프로필에서는 로컬 스텁)
+	@Value("${openapi.mofa.base-url:https://apis.data.go.kr}")
+	private String baseUrl;
+
+	@Value("${diplomats.ingestion.page-size:100}")
+	private int pageSize;
+
 	// 분야별 키워드 정의
 	private static final Map<String, List<String>> CATEGORY_KEYWORDS = Map.of(
 		"ENVIRONMENT", Arrays.asList("환경", "기후", "탄소", "녹색", "지속가능", "에너지", "친환경", "온실가스", "탄소중립", "청정에너지", "재생에너지"),
@@ -40,6 +52,11 @@ public class OdaProjectService {
 		"OTHERS", Arrays.asList("농업", "농촌", "인프라", "교통", "통신", "IT", "거버넌스", "법제도", "평화", "인권", "민주주의")
 	);
 
+	private static final KeywordMatcher CATEGORY_MATCHER = KeywordMatcher.compile(CATEGORY_KEYWORDS);
+
+	// 전체 수집시 가져오는 항목 수
+	private static final int FULL_LOAD_ROWS = 500;
+
 	// 카테고리별 한국어 이름 매핑
 	private static final Map<String, String> CATEGORY_DISPLAY_NAMES = Map.of(
 		"ENVIRONMENT", "환경·기후변화",
@@ -49,78 +66,61 @@ public class OdaProjectService {
 		"OTHERS", "기타·종합개발"
 	);
 
-	/**
-	 * 매월 자동으로 ODA 프로젝트 데이터를 수집하고 처리합니다.
-	 * 매월 1일 새벽 3시에 실행됩니다.
-	 */
-	@Scheduled(cron = "0 0 3 1 * ?") // 매월 1일 새벽 3시
-	public void updateOdaProjects() {
-		log.info("ODA 프로젝트 업데이트 시작");
-		try {
-			fetchAndProcessOdaProjects();
-			log.info("ODA 프로젝트 업데이트 완료");
-		} catch (Exception e) {
-			log.error("ODA 프로젝트 업데이트 실패", e);
-		}
-	}
-
 	/**
 	 * 공공데이터 API에서 ODA 프로젝트 정보를 가져와서 분야별로 분류하고 저장합니다.
 	 * 각 분야별로 상위 5개 프로젝트만 유지합니다.
 	 */
 	@Transactional
 	public void fetchAndProcessOdaProjects() {
-		String apiUrl = String.format(
-			"https://apis.data.go.kr/1262000/pressRlsService/getPressRls?serviceKey=%s&pageNo=1&numOfRows=500&returnType=json",
-			serviceKey
-		);
-
 		try {
-			// 실제로는 ODA 전용 API를 사용해야 하지만, 일단 기존 API로 시뮬레이션
-			OdaApiResponse response = restTemplate.getForObject(apiUrl, OdaApiResponse.class);
-
-			if (isValidResponse(response)) {
-				List<OdaApiResponse.Item> items = response.getResponse().getBody().getItems().getItem();
-				log.info("총 {}개의 ODA 프로젝트 정보를 가져왔습니다.", items.size());
-
-				// 기존 데이터 삭제
-				odaProjectRepository.deleteAll();
-				odaProjectRepository.flush();
-
-				// 각 프로젝트 처리
-				processOdaItems(items);
-
-				// 각 분야별 상위 5개만 유지
-				keepTopProjectsPerCategory();
-
-				logProcessingResults();
+			// 새 세대로 적재 (활성 세대를 바꾸기 전까지는 조회되지 않음)
+			long generation = ingestionBatchRepository.nextGeneration(Dataset.ODA_PROJECTS);
 
+			// 실제로는 ODA 전용 API를 사용해야 하지만, 일단 기존 API로 시뮬레이션
+			// 페이지를 병렬로 받아 페이지 순서대로 분류, 저장
+			AtomicInteger savedCount = new AtomicInteger();
+			int maxPages = (FULL_LOAD_ROWS + pageSize - 1) / pageSize;
+			int fetchedCount = openApiItemReader.fetchPages(pageNo -> odaApiUrl(pageNo, pageSize), pageSize, maxPages,
+				OdaApiResponse.Item.class, items -> savedCount.addAndGet(processOdaItems(items, generation)));
+			log.info("총 {}개의 ODA 프로젝트 정보를 가져와 {}개를 저장했습니다.", fetchedCount, savedCount.get());
+
+			// 적재가 끝난 뒤 활성 세대를 한 번에 교체하고 이전 세대 정리
+			if (savedCount.get() > 0) {
+				ingestionBatchRepository.activateGeneration(Dataset.ODA_PROJECTS, generation);
+				int removedCount = ingestionBatchRepository.deleteInactive(Dataset.ODA_PROJECTS);
+				log.info("ODA 프로젝트 세대 교체 완료: generation={}, 이전 세대 {}개 삭제", generation, removedCount);
 			} else {
-				throw new RuntimeException("ODA API 응답이 올바르지 않습니다.");
+				log.warn("저장된 ODA 프로젝트가 없어 기존 세대를 유지합니다.");
 			}
+
+			logProcessingResults();
 		} catch (Exception e) {
 			log.error("ODA API 호출 실패", e);
 			throw new RuntimeException("ODA 프로젝트 업데이트 실패: " + e.getMessage(), e);
 		}
 	}
 
-	private boolean isValidResponse(OdaApiResponse response) {
-		return response != null &&
-			response.getResponse() != null &&
-			"0".equals(response.getResponse().getHeader().getResultCode()) &&
-			response.getResponse().getBody() != null &&
-			response.getResponse().getBody().getItems() != null &&
-			response.getResponse().getBody().getItems().getItem() != null;
+	private String odaApiUrl(int pageNo, int numOfRows) {
+		return String.format(
+			baseUrl + "/1262000/pressRlsService/getPressRls?serviceKey=%s&pageNo=%d&numOfRows=%d&returnType=json",
+			serviceKey, pageNo, numOfRows
+		);
 	}
 
-	private void processOdaItems(List<OdaApiResponse.Item> items) {
-		int processedCount = 0;
+	/**
+	 * 한 묶음의 ODA 프로젝트를 분류해서 배치 저장
+	 *
+	 * @return 저장한 프로젝트 수
+	 */
+	private int processOdaItems(List<OdaApiResponse.Item> items, long generation) {
+		List<OdaProject> projects = new ArrayList<>(items.size());
 		int errorCount = 0;
 
 		for (OdaApiResponse.Item item : items) {
 			try {
-				if (processOdaItem(item)) {
-					processedCount++;
+				OdaProject project = toOdaProject(item);
+				if (project != null) {
+					projects.add(project);
 				}
 			} catch (Exception e) {
 				errorCount++;
@@ -128,25 +128,32 @@ public class OdaProjectService {
 			}
 		}
 
-		log.info("ODA 프로젝트 처리 완료: 성공 {}개, 실패 {}개", processedCount, errorCount);
+		ingestionBatchRepository.insertOdaProjects(projects, generation);
+		log.debug("ODA 프로젝트 묶음 저장: 성공 {}개, 실패 {}개", projects.size(), errorCount);
+		return projects.size();
 	}
 
-	private boolean processOdaItem(OdaApiResponse.Item item) {
+	/**
+	 * @return 저장 대상이 아니면 null
+	 */
+	private OdaProject toOdaProject(OdaApiResponse.Item item) {
 		String title = getItemTitle(item);
 		if (title == null || title.trim().isEmpty()) {
 			log.debug("제목이 없는 ODA 프로젝트 건너뜀");
-			return false;
+			return null;
 		}
 
 		String content = cleanHtmlContent(getItemContent(item));
 		String countryName = getItemCountry(item);
 
-		// 분야 매칭
-		String bestMatchCategory = findBestMatchingCategory(title, content);
-		int matchScore = calculateMatchScore(title, content, bestMatchCategory);
+		// 분야 매칭 - 본문을 한 번만 훑어 분야별 점수 계산
+		int[] categoryScores = CATEGORY_MATCHER.countByType((title + " " + content).toLowerCase());
+		int bestIndex = KeywordMatcher.indexOfMax(categoryScores);
+		String bestMatchCategory = CATEGORY_MATCHER.getTypes().get(bestIndex);
+		int matchScore = categoryScores[bestIndex];
 
 		if (matchScore <= 0) {
-			return false;
+			return null;
 		}
 
 		try {
@@ -169,12 +176,11 @@ public class OdaProjectService {
 				.matchScore(matchScore)
 				.build();
 
-			odaProjectRepository.save(odaProject);
-			return true;
+			return odaProject;
 
 		} catch (Exception e) {
-			log.error("ODA 프로젝트 저장 실패: {} - {}", title, e.getMessage());
-			return false;
+			log.error("ODA 프로젝트 변환 실패: {} - {}", title, e.getMessage());
+			return null;
 		}
 	}
 
@@ -255,55 +261,6 @@ public class OdaProjectService {
 		return LocalDate.now();
 	}
 
-	private String findBestMatchingCategory(String title, String content) {
-		String fullText = ((title != null ? title : "") + " " + (content != null ? content : "")).toLowerCase();
-		Map<String, Integer> categoryScores = new HashMap<>();
-
-		for (Map.Entry<String, List<String>> entry : CATEGORY_KEYWORDS.entrySet()) {
-			int score = 0;
-			for (String keyword : entry.getValue()) {
-				score += countOccurrences(fullText, keyword);
-			}
-			categoryScores.put(entry.getKey(), score);
-		}
-
-		return categoryScores.entrySet().stream()
-			.max(Map.Entry.comparingByValue())
-			.map(Map.Entry::getKey)
-			.orElse("OTHERS");
-	}
-
-	private int calculateMatchScore(String title, String content, String category) {
-		String fullText = ((title != null ? title : "") + " " + (content != null ? content : "")).toLowerCase();
-		List<String> keywords = CATEGORY_KEYWORDS.get(category);
-
-		int score = 0;
-		for (String keyword : keywords) {
-			score += countOccurrences(fullText, keyword);
-		}
-		return score;
-	}
-
-	private int countOccurrences(String text, String keyword) {
-		int count = 0;
-		int index = 0;
-		while ((index = text.indexOf(keyword, index)) != -1) {
-			count++;
-			index += keyword.length();
-		}
-		return count;
-	}
-
-	private void keepTopProjectsPerCategory() {
-		for (String category : CATEGORY_KEYWORDS.keySet()) {
-			List<OdaProject> allProjects = odaProjectRepository.findTop5ByCategoryOrderByMatchScoreDescPublishDateDesc(category);
-			if (allProjects.size() > 5) {
-				List<OdaProject> toDelete = allProjects.subList(5, allProjects.size());
-				odaProjectRepository.deleteAll(toDelete);
-			}
-		}
-	}
-
 	private void logProcessingResults() {
 		List<Object[]> results = odaProjectRepository.countByEachCategory();
 		log.info("=== 분야별 ODA 프로젝트 처리 결과 ===");
@@ -316,7 +273,7 @@ public class OdaProjectService {
 
 	public Map<String, Object> getOdaProjectStatus() {
 		Map<String, Object> status = new HashMap<>();
-		long totalCount = odaProjectRepository.count();
+		long totalCount = odaProjectRepository.countByActiveTrue();
 		status.put("totalCount", totalCount);
 
 		Map<String, Long> categoryCountMap = new HashMap<>();
@@ -95,7 +95,7 @@ public class OdaVoteService {
 		List<String> categories = List.of("ENVIRONMENT", "EDUCATION", "HEALTH", "WOMEN", "OTHERS");
 		
 		return categories.stream()
-			.map(category -> odaProjectRepository.findTop5ByCategoryOrderByMatchScoreDescPublishDateDesc(category))
+			.map(category -> odaProjectRepository.findTop5ByCategoryAndActiveTrueOrderByMatchScoreDescPublishDateDesc(category))
 			.filter(projects -> !projects.isEmpty())
 			.map(projects -> projects.get(0))
 			.collect(Collectors.toList());
@@ -2,24 +2,34 @@ package publicdata.hackathon.diplomats.service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.response.MofaApiResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.RecommendedPressRelease;
 import publicdata.hackathon.diplomats.domain.entity.PressRelease;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository.Dataset;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository.StoredPressRelease;
 import publicdata.hackathon.diplomats.repository.PressReleaseRepository;
+import publicdata.hackathon.diplomats.utils.KeywordMatcher;
+import publicdata.hackathon.diplomats.utils.OpenApiItemReader;
 
 @Service
 @RequiredArgsConstructor
@@ -28,11 +38,32 @@ import publicdata.hackathon.diplomats.repository.PressReleaseRepository;
 public class PressReleaseService {
 
 	private final PressReleaseRepository pressReleaseRepository;
-	private final RestTemplate restTemplate;
+	private final IngestionBatchRepository ingestionBatchRepository;
+	private final OpenApiItemReader openApiItemReader;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Value("${openapi.mofa.service-key}")
 	private String serviceKey;
 
+	// 리플레이 스텁 등으로 바꿔 끼울 수 있도록 설정에서 읽음
+	@Value("${openapi.mofa.base-url:https://apis.data.go.kr}")
+	private String baseUrl;
+
+	@Value("${diplomats.ingestion.page-size:100}")
+	private int pageSize;
+
+	@Value("${diplomats.press-release.sync.page-size:100}")
+	private int syncPageSize;
+
+	@Value("${diplomats.press-release.sync.max-pages:10}")
+	private int syncMaxPages;
+
+	/**
+	 * 보도자료 수집 완료 이벤트 (트랜잭션 커밋 이후 리스너 실행)
+	 */
+	public record PressReleasesUpdatedEvent() {
+	}
+
 	// 유형별 키워드 정의
 	private static final Map<String, List<String>> TYPE_KEYWORDS = Map.of(
 		"CLIMATE_ACTION", Arrays.asList("기후", "환경", "탄소", "녹색", "지속가능", "에너지", "친환경", "온실가스", "탄소중립"),
@@ -42,14 +73,41 @@ public class PressReleaseService {
 		"DIGITAL_COMMUNICATION", Arrays.asList("디지털", "IT", "기술", "혁신", "온라인", "스마트", "AI", "사이버", "4차산업", "ICT")
 	);
 
-	@Scheduled(cron = "0 0 2 1 * ?")
-	public void updatePressReleases() {
-		log.info("보도자료 업데이트 시작");
+	private static final KeywordMatcher TYPE_MATCHER = KeywordMatcher.compile(TYPE_KEYWORDS);
+
+	// 전체 수집시 가져오는 최근 보도자료 수
+	private static final int FULL_LOAD_ROWS = 500;
+
+	/**
+	 * 카테고리 컬럼 추가 이전에 저장된 보도자료를 시작시 한 번 분류
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void classifyLegacyPressReleases() {
+		// 증분 동기화 식별자(source_key)가 없는 기존 데이터도 함께 채움
+		int backfilled = ingestionBatchRepository.backfillPressReleaseSourceKeys();
+		if (backfilled > 0) {
+			log.info("기존 보도자료 식별자 채우기 완료: {}개", backfilled);
+		}
+
+		List<PressRelease> unclassified = pressReleaseRepository.findByCategoryIsNull();
+		if (unclassified.isEmpty()) {
+			return;
+		}
+		unclassified.forEach(PressRelease::classifyCategories);
+		log.info("기존 보도자료 카테고리 분류 완료: {}개", unclassified.size());
+		eventPublisher.publishEvent(new PressReleasesUpdatedEvent());
+	}
+
+	/**
+	 * 매시간 새로 올라온 보도자료만 반영 (전체 재수집은 월 1회 PublicDataIngestionService에서)
+	 */
+	@Scheduled(cron = "${diplomats.press-release.sync.cron:0 30 * * * ?}")
+	public void syncPressReleases() {
 		try {
-			fetchAndProcessPressReleases();
-			log.info("보도자료 업데이트 완료");
+			int changedCount = syncNewPressReleases();
+			log.info("보도자료 증분 동기화 완료: {}개 반영", changedCount);
 		} catch (Exception e) {
-			log.error("보도자료 업데이트 실패", e);
+			log.error("보도자료 증분 동기화 실패", e);
 		}
 	}
 
@@ -98,6 +156,9 @@ public class PressReleaseService {
 		return "https://www.mofa.go.kr/www/brd/m_4080/list.do";
 	}
 
+	/**
+	 * @return 날짜가 없거나 형식이 잘못되면 null
+	 */
 	private LocalDate parseDate(String dateString) {
 		try {
 			if (dateString != null && !dateString.isEmpty()) {
@@ -107,62 +168,11 @@ public class PressReleaseService {
 		} catch (Exception e) {
 			log.warn("날짜 파싱 실패: {}", dateString);
 		}
-		return LocalDate.now();
-	}
-
-	private String findBestMatchingType(String title, String content) {
-		String fullText = ((title != null ? title : "") + " " + (content != null ? content : "")).toLowerCase();
-		Map<String, Integer> typeScores = new HashMap<>();
-
-		for (Map.Entry<String, List<String>> entry : TYPE_KEYWORDS.entrySet()) {
-			int score = 0;
-			for (String keyword : entry.getValue()) {
-				score += countOccurrences(fullText, keyword);
-			}
-			typeScores.put(entry.getKey(), score);
-		}
-
-		return typeScores.entrySet().stream()
-			.max(Map.Entry.comparingByValue())
-			.map(Map.Entry::getKey)
-			.orElse("CULTURAL_DIPLOMACY");
-	}
-
-	private int calculateMatchScore(String title, String content, String type) {
-		String fullText = ((title != null ? title : "") + " " + (content != null ? content : "")).toLowerCase();
-		List<String> keywords = TYPE_KEYWORDS.get(type);
-
-		int score = 0;
-		for (String keyword : keywords) {
-			score += countOccurrences(fullText, keyword);
-		}
-		return score;
-	}
-
-	private int countOccurrences(String text, String keyword) {
-		int count = 0;
-		int index = 0;
-		while ((index = text.indexOf(keyword, index)) != -1) {
-			count++;
-			index += keyword.length();
-		}
-		return count;
-	}
-
-	private void keepTopReleasesPerType() {
-		for (String type : TYPE_KEYWORDS.keySet()) {
-			List<PressRelease> allReleases = pressReleaseRepository.findTop5ByCitizenTypeOrderByMatchScoreDescPublishDateDesc(type);
-
-			// 상위 5개를 제외한 나머지 삭제
-			if (allReleases.size() > 5) {
-				List<PressRelease> toDelete = allReleases.subList(5, allReleases.size());
-				pressReleaseRepository.deleteAll(toDelete);
-			}
-		}
+		return null;
 	}
 
 	public List<RecommendedPressRelease> getRecommendedPressReleases(String citizenType) {
-		List<PressRelease> releases = pressReleaseRepository.findTop5ByCitizenTypeOrderByMatchScoreDescPublishDateDesc(citizenType);
+		List<PressRelease> releases = pressReleaseRepository.findTop5ByCitizenTypeAndActiveTrueOrderByMatchScoreDescPublishDateDesc(citizenType);
 
 		return releases.stream()
 			.map(this::convertToRecommendedDto)
@@ -195,7 +205,7 @@ public class PressReleaseService {
 		Map<String, Object> status = new HashMap<>();
 
 		// 전체 보도자료 개수
-		long totalCount = pressReleaseRepository.count();
+		long totalCount = pressReleaseRepository.countByActiveTrue();
 		status.put("totalCount", totalCount);
 
 		// 각 유형별 개수
@@ -221,7 +231,7 @@ public class PressReleaseService {
 		status.put("typeDisplayNames", typeDisplayNames);
 
 		// 최근 업데이트 시간 (가장 최근 생성된 보도자료의 생성 시간)
-		pressReleaseRepository.findTopByOrderByCreatedAtDesc()
+		pressReleaseRepository.findTopByActiveTrueOrderByCreatedAtDesc()
 			.ifPresent(latestRelease ->
 				status.put("lastUpdated", latestRelease.getCreatedAt())
 			);
@@ -233,7 +243,7 @@ public class PressReleaseService {
 		Map<String, List<String>> examples = new HashMap<>();
 
 		for (String type : TYPE_KEYWORDS.keySet()) {
-			List<PressRelease> releases = pressReleaseRepository.findTop3ByCitizenTypeOrderByMatchScoreDesc(type);
+			List<PressRelease> releases = pressReleaseRepository.findTop3ByCitizenTypeAndActiveTrueOrderByMatchScoreDesc(type);
 			List<String> titles = releases.stream()
 				.map(PressRelease::getTitle)
 				.collect(Collectors.toList());
@@ -245,56 +255,162 @@ public class PressReleaseService {
 
 	@Transactional
 	public void fetchAndProcessPressReleases() {
-		String apiUrl = String.format(
-			"https://apis.data.go.kr/1262000/pressRlsService/getPressRls?serviceKey=%s&pageNo=1&numOfRows=500&returnType=json",
-			serviceKey
-		);
-
 		try {
-			MofaApiResponse response = restTemplate.getForObject(apiUrl, MofaApiResponse.class);
+			// 새 세대로 적재 (활성 세대를 바꾸기 전까지는 조회되지 않음)
+			long generation = ingestionBatchRepository.nextGeneration(Dataset.PRESS_RELEASES);
+
+			// 페이지를 병렬로 받아 페이지 순서대로 분류, 저장
+			AtomicInteger savedCount = new AtomicInteger();
+			int maxPages = (FULL_LOAD_ROWS + pageSize - 1) / pageSize;
+			int fetchedCount = openApiItemReader.fetchPages(pageNo -> pressReleaseApiUrl(pageNo, pageSize), pageSize,
+				maxPages, MofaApiResponse.Item.class, items -> savedCount.addAndGet(processItems(items, generation)));
+			log.info("총 {}개의 보도자료를 가져와 {}개를 저장했습니다.", fetchedCount, savedCount.get());
+
+			// 적재가 끝난 뒤 활성 세대를 한 번에 교체하고 이전 세대 정리
+			if (savedCount.get() > 0) {
+				ingestionBatchRepository.activateGeneration(Dataset.PRESS_RELEASES, generation);
+				int removedCount = ingestionBatchRepository.deleteInactive(Dataset.PRESS_RELEASES);
+				log.info("보도자료 세대 교체 완료: generation={}, 이전 세대 {}개 삭제", generation, removedCount);
+			} else {
+				log.warn("저장된 보도자료가 없어 기존 세대를 유지합니다.");
+			}
+
+			logProcessingResults();
+
+			// 메인페이지 최신 뉴스, 뉴스 필터별 개수 갱신
+			eventPublisher.publishEvent(new PressReleasesUpdatedEvent());
+		} catch (Exception e) {
+			log.error("API 호출 실패", e);
+			throw new RuntimeException("보도자료 업데이트 실패: " + e.getMessage(), e);
+		}
+	}
 
-			if (isValidResponse(response)) {
-				List<MofaApiResponse.Item> items = response.getResponse().getBody().getItems().getItem();
-				log.info("총 {}개의 보도자료를 가져왔습니다.", items.size());
+	/**
+	 * 워터마크 기반 증분 동기화
+	 * 피드는 최신순이라고 보고 1페이지부터 읽다가 이미 저장된 항목이나 워터마크(활성 데이터의 최근 게시일)보다
+	 * 오래된 항목을 만나면 중단. 새 항목은 현재 활성 세대에 바로 추가하고, 게시일이 바뀐 항목은 갱신
+	 *
+	 * @return 추가 + 갱신한 보도자료 수
+	 */
+	@Transactional
+	public int syncNewPressReleases() {
+		Long generation = ingestionBatchRepository.activeGeneration(Dataset.PRESS_RELEASES);
+		LocalDate watermark = ingestionBatchRepository.findLatestActivePressReleaseDate();
+		if (generation == null || watermark == null) {
+			log.info("활성 보도자료가 없어 전체 수집으로 대체합니다.");
+			fetchAndProcessPressReleases();
+			return (int)pressReleaseRepository.countByActiveTrue();
+		}
 
-				// 기존 데이터 삭제
-				pressReleaseRepository.deleteAll();
-				pressReleaseRepository.flush(); // 즉시 삭제 실행
+		SyncProgress progress = new SyncProgress();
+		try {
+			for (int pageNo = 1; pageNo <= syncMaxPages && !progress.reachedKnown; pageNo++) {
+				int fetchedCount = openApiItemReader.fetch(pressReleaseApiUrl(pageNo, syncPageSize),
+					MofaApiResponse.Item.class, items -> syncItems(items, generation, watermark, progress));
+				if (fetchedCount < syncPageSize) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			log.error("API 호출 실패", e);
+			throw new RuntimeException("보도자료 동기화 실패: " + e.getMessage(), e);
+		}
 
-				// 각 보도자료 처리
-				processItems(items);
+		if (!progress.reachedKnown) {
+			log.warn("최대 {}페이지까지 읽었지만 기존 보도자료에 도달하지 못했습니다. (watermark={})", syncMaxPages, watermark);
+		}
+		log.info("보도자료 증분 동기화: watermark={}, 추가 {}개, 갱신 {}개", watermark, progress.insertedCount,
+			progress.updatedCount);
 
-				// 각 유형별 상위 5개만 유지
-				keepTopReleasesPerType();
+		int changedCount = progress.insertedCount + progress.updatedCount;
+		if (changedCount > 0) {
+			eventPublisher.publishEvent(new PressReleasesUpdatedEvent());
+		}
+		return changedCount;
+	}
 
-				logProcessingResults();
+	/**
+	 * 한 묶음에서 워터마크 이후 항목만 골라 추가/갱신
+	 */
+	private void syncItems(List<MofaApiResponse.Item> items, long generation, LocalDate watermark,
+		SyncProgress progress) {
+		if (progress.reachedKnown) {
+			return;
+		}
 
+		// 묶음 안에서 같은 항목이 반복되면 처음(최신) 것만 사용
+		Map<String, PressRelease> candidates = new LinkedHashMap<>();
+		for (MofaApiResponse.Item item : items) {
+			LocalDate publishDate = parseDate(item.getUpdtDate());
+			if (publishDate == null) {
+				// 게시일을 알 수 없는 항목은 저장하지 않고, 중단 여부 판단에도 쓰지 않음
+				continue;
+			}
+			if (publishDate.isBefore(watermark)) {
+				progress.reachedKnown = true;
+				break;
+			}
+			try {
+				PressRelease pressRelease = toPressRelease(item);
+				if (pressRelease != null) {
+					candidates.putIfAbsent(pressRelease.getSourceKey(), pressRelease);
+				}
+			} catch (Exception e) {
+				log.warn("보도자료 처리 실패: {} - {}", item.getTitle(), e.getMessage());
+			}
+		}
+
+		Map<String, StoredPressRelease> stored =
+			ingestionBatchRepository.findActivePressReleasesBySourceKey(candidates.keySet());
+		List<PressRelease> inserts = new ArrayList<>();
+		List<PressRelease> updates = new ArrayList<>();
+		for (PressRelease pressRelease : candidates.values()) {
+			StoredPressRelease existing = stored.get(pressRelease.getSourceKey());
+			if (existing == null) {
+				inserts.add(pressRelease);
+			} else if (!pressRelease.getPublishDate().equals(existing.publishDate())) {
+				pressRelease.setId(existing.id());
+				updates.add(pressRelease);
 			} else {
-				throw new RuntimeException("API 응답이 올바르지 않습니다.");
+				// 변경 없는 기존 항목 - 이후 항목은 이미 반영된 것
+				progress.reachedKnown = true;
+				break;
 			}
-		} catch (Exception e) {
-			log.error("API 호출 실패", e);
-			throw new RuntimeException("보도자료 업데이트 실패: " + e.getMessage(), e);
 		}
+
+		ingestionBatchRepository.insertPressReleases(inserts, generation, true);
+		ingestionBatchRepository.updatePressReleases(updates);
+		progress.insertedCount += inserts.size();
+		progress.updatedCount += updates.size();
 	}
 
-	private boolean isValidResponse(MofaApiResponse response) {
-		return response != null &&
-			response.getResponse() != null &&
-			"0".equals(response.getResponse().getHeader().getResultCode()) &&
-			response.getResponse().getBody() != null &&
-			response.getResponse().getBody().getItems() != null &&
-			response.getResponse().getBody().getItems().getItem() != null;
+	private String pressReleaseApiUrl(int pageNo, int numOfRows) {
+		return String.format(
+			baseUrl + "/1262000/pressRlsService/getPressRls?serviceKey=%s&pageNo=%d&numOfRows=%d&returnType=json",
+			serviceKey, pageNo, numOfRows
+		);
 	}
 
-	private void processItems(List<MofaApiResponse.Item> items) {
-		int processedCount = 0;
+	private static class SyncProgress {
+		private boolean reachedKnown;
+		private int insertedCount;
+		private int updatedCount;
+	}
+
+	/**
+	 * 한 묶음의 보도자료를 분류해서 배치 저장
+	 *
+	 * @return 저장한 보도자료 수
+	 */
+	private int processItems(List<MofaApiResponse.Item> items, long generation) {
+		List<PressRelease> pressReleases = new ArrayList<>(items.size());
 		int errorCount = 0;
 
 		for (MofaApiResponse.Item item : items) {
 			try {
-				if (processItem(item)) {
-					processedCount++;
+				PressRelease pressRelease = toPressRelease(item);
+				if (pressRelease != null) {
+					pressReleases.add(pressRelease);
 				}
 			} catch (Exception e) {
 				errorCount++;
@@ -302,31 +418,44 @@ public class PressReleaseService {
 			}
 		}
 
-		log.info("처리 완료: 성공 {}개, 실패 {}개", processedCount, errorCount);
+		ingestionBatchRepository.insertPressReleases(pressReleases, generation, false);
+		log.debug("보도자료 묶음 저장: 성공 {}개, 실패 {}개", pressReleases.size(), errorCount);
+		return pressReleases.size();
 	}
 
-	private boolean processItem(MofaApiResponse.Item item) {
+	/**
+	 * @return 저장 대상이 아니면 null
+	 */
+	private PressRelease toPressRelease(MofaApiResponse.Item item) {
 		// 필수 데이터 검증
 		if (item.getTitle() == null || item.getTitle().trim().isEmpty()) {
 			log.debug("제목이 없는 보도자료 건너뜀");
-			return false;
+			return null;
 		}
 
 		String title = item.getTitle().trim();
 		String content = cleanHtmlContent(item.getContent());
 
-		// 유형 매칭
-		String bestMatchType = findBestMatchingType(title, content);
-		int matchScore = calculateMatchScore(title, content, bestMatchType);
+		// 유형 매칭 - 본문을 한 번만 훑어 유형별 점수 계산
+		int[] typeScores = TYPE_MATCHER.countByType((title + " " + content).toLowerCase());
+		int bestIndex = KeywordMatcher.indexOfMax(typeScores);
+		String bestMatchType = TYPE_MATCHER.getTypes().get(bestIndex);
+		int matchScore = typeScores[bestIndex];
 
 		// 매칭 점수가 0인 경우 건너뛰기
 		if (matchScore <= 0) {
 			log.debug("매칭 점수가 0인 보도자료 건너뜀: {}", title);
-			return false;
+			return null;
+		}
+
+		// 게시일이 없거나 형식이 잘못된 항목은 건너뜀 - 오늘 날짜로 저장하면 증분 동기화 워터마크가 앞당겨짐
+		LocalDate publishDate = parseDate(item.getUpdtDate());
+		if (publishDate == null) {
+			log.debug("게시일을 알 수 없는 보도자료 건너뜀: {} (updtDate={})", title, item.getUpdtDate());
+			return null;
 		}
 
 		try {
-			LocalDate publishDate = parseDate(item.getUpdtDate());
 			String url = createPressReleaseUrl(item.getFileUrl());
 
 			PressRelease pressRelease = PressRelease.builder()
@@ -337,20 +466,22 @@ public class PressReleaseService {
 				.citizenType(bestMatchType)
 				.matchScore(matchScore)
 				.build();
+			// 증분 동기화시 이미 저장된 항목인지 확인하는 키
+			pressRelease.setSourceKey(PressRelease.sourceKeyOf(title, url));
+			// 뉴스 필터 카테고리는 저장 시점에 한 번만 계산
+			pressRelease.classifyCategories();
 
 			// 저장 전 검증
 			if (pressRelease.getTitle() == null || pressRelease.getCitizenType() == null) {
 				log.warn("필수 필드가 null인 엔티티 건너뜀: {}", title);
-				return false;
+				return null;
 			}
 
-			pressReleaseRepository.save(pressRelease);
-			log.debug("보도자료 저장 성공: {} (유형: {}, 점수: {})", title, bestMatchType, matchScore);
-			return true;
+			return pressRelease;
 
 		} catch (Exception e) {
-			log.error("보도자료 저장 실패: {} - {}", title, e.getMessage());
-			return false;
+			log.error("보도자료 변환 실패: {} - {}", title, e.getMessage());
+			return null;
 		}
 	}
 }
\ No newline at end of file
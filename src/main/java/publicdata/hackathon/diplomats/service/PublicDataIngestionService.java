@@ -0,0 +1,69 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공공데이터 피드(보도자료, 공공외교 사업, ODA) 월간 전체 수집
+ * 세 피드는 서로 다른 테이블에 각자의 트랜잭션으로 적재하므로 피드 전용 스레드에서 동시에 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PublicDataIngestionService {
+
+	private final PressReleaseService pressReleaseService;
+	private final PublicDiplomacyService publicDiplomacyService;
+	private final OdaProjectService odaProjectService;
+	private final ThreadPoolTaskExecutor openApiFeedExecutor;
+
+	@Value("${diplomats.ingestion.feed-timeout-minutes:30}")
+	private long feedTimeoutMinutes;
+
+	/**
+	 * 매월 1일 새벽 2시에 세 피드를 동시에 수집
+	 */
+	@Scheduled(cron = "0 0 2 1 * ?")
+	public void updateAllFeeds() {
+		log.info("공공데이터 전체 수집 시작");
+
+		Map<String, Runnable> feeds = new LinkedHashMap<>();
+		feeds.put("보도자료", pressReleaseService::fetchAndProcessPressReleases);
+		feeds.put("공공외교 프로그램", publicDiplomacyService::fetchAndProcessPrograms);
+		feeds.put("ODA 프로젝트", odaProjectService::fetchAndProcessOdaProjects);
+
+		// runAsync로 만든 CompletableFuture는 cancel(true)해도 실행 중인 스레드를 인터럽트하지 않으므로 submit 사용
+		Map<String, Future<?>> futures = new LinkedHashMap<>();
+		feeds.forEach((name, feed) -> futures.put(name, openApiFeedExecutor.submit(() -> runFeed(name, feed))));
+
+		// 스케줄러 스레드는 다른 주기 작업(조회수 반영 등)도 실행하므로 기다리지 않고 바로 반환
+		// 제한 시간이 지나면 끝나지 않은 피드만 취소 - 인터럽트된 피드는 다음 페이지를 기다리다 예외로 끝나고 트랜잭션은 롤백됨
+		CompletableFuture.delayedExecutor(feedTimeoutMinutes, TimeUnit.MINUTES).execute(() ->
+			futures.forEach((name, future) -> {
+				if (!future.isDone()) {
+					future.cancel(true);
+					log.error("{} 업데이트 시간 초과 ({}분), 취소", name, feedTimeoutMinutes);
+				}
+			}));
+	}
+
+	private void runFeed(String name, Runnable feed) {
+		try {
+			feed.run();
+			log.info("{} 업데이트 완료", name);
+		} catch (Exception e) {
+			log.error("{} 업데이트 실패", name, e);
+		}
+	}
+}
@@ -1,23 +1,27 @@
 package publicdata.hackathon.diplomats.service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import publicdata.hackathon.diplomats.domain.dto.response.PublicDiplomacyApiResponse;
 import publicdata.hackathon.diplomats.domain.dto.response.RecommendedDiplomacyProgram;
 import publicdata.hackathon.diplomats.domain.entity.PublicDiplomacyProgram;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository;
+import publicdata.hackathon.diplomats.repository.IngestionBatchRepository.Dataset;
 import publicdata.hackathon.diplomats.repository.PublicDiplomacyProgramRepository;
+import publicdata.hackathon.diplomats.utils.KeywordMatcher;
+import publicdata.hackathon.diplomats.utils.OpenApiItemReader;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +30,19 @@ import publicdata.hackathon.diplomats.repository.PublicDiplomacyProgramRepositor
 public class PublicDiplomacyService {
 
 	private final PublicDiplomacyProgramRepository programRepository;
-	private final RestTemplate restTemplate;
+	private final IngestionBatchRepository ingestionBatchRepository;
+	private final OpenApiItemReader openApiItemReader;
 
 	@Value("${openapi.kf.service-key}")
 	private String serviceKey;
 
+	// 기본값은 한국국제교류재단 API, 성능 측정시에는 리플레이 스텁 주소로 변경
+	@Value("${openapi.kf.base-url:http://apis.data.go.kr}")
+	private String baseUrl;
+
+	@Value("${diplomats.ingestion.page-size:100}")
+	private int pageSize;
+
 	// 유형별 키워드 정의
 	private static final Map<String, List<String>> TYPE_KEYWORDS = Map.of(
 		"CLIMATE_ACTION", Arrays.asList("환경", "기후", "녹색", "지속가능", "에너지", "생태", "탄소"),
@@ -40,68 +52,61 @@ public class PublicDiplomacyService {
 		"DIGITAL_COMMUNICATION", Arrays.asList("디지털", "IT", "온라인", "스마트", "기술", "혁신", "사이버", "미디어")
 	);
 
-	@Scheduled(cron = "0 0 3 1 * ?") // 매월 1일 새벽 3시
-	public void updatePublicDiplomacyPrograms() {
-		log.info("공공외교 프로그램 업데이트 시작");
-		try {
-			fetchAndProcessPrograms();
-			log.info("공공외교 프로그램 업데이트 완료");
-		} catch (Exception e) {
-			log.error("공공외교 프로그램 업데이트 실패", e);
-		}
-	}
+	private static final KeywordMatcher TYPE_MATCHER = KeywordMatcher.compile(TYPE_KEYWORDS);
 
-	public void fetchAndProcessPrograms() {
-		String apiUrl = String.format(
-			"http://apis.data.go.kr/B260004/PublicDiplomacyBusinessInfoService/getPublicDiplomacyBusinessInfoList?serviceKey=%s&pageNo=1&numOfRows=5000",
-			serviceKey
-		);
+	// 전체 수집시 가져오는 사업 수
+	private static final int FULL_LOAD_ROWS = 5000;
 
+	public void fetchAndProcessPrograms() {
 		try {
-			PublicDiplomacyApiResponse response = restTemplate.getForObject(apiUrl, PublicDiplomacyApiResponse.class);
-
-			if (isValidResponse(response)) {
-				List<PublicDiplomacyApiResponse.Item> items = response.getResponse().getBody().getItems().getItem();
-				log.info("총 {}개의 공공외교 프로그램을 가져왔습니다.", items.size());
-
-				// 기존 데이터 삭제
-				programRepository.deleteAll();
-				programRepository.flush();
-
-				// 각 프로그램 처리
-				processPrograms(items);
-
-				// 각 유형별 상위 5개만 유지
-				keepTopProgramsPerType();
-
-				logProcessingResults();
-
+			// 새 세대로 적재 (활성 세대를 바꾸기 전까지는 조회되지 않음)
+			long generation = ingestionBatchRepository.nextGeneration(Dataset.PUBLIC_DIPLOMACY_PROGRAMS);
+
+			// 페이지를 병렬로 받아 페이지 순서대로 분류, 저장
+			AtomicInteger savedCount = new AtomicInteger();
+			int maxPages = (FULL_LOAD_ROWS + pageSize - 1) / pageSize;
+			int fetchedCount = openApiItemReader.fetchPages(pageNo -> programApiUrl(pageNo, pageSize), pageSize,
+				maxPages, PublicDiplomacyApiResponse.Item.class,
+				items -> savedCount.addAndGet(processPrograms(items, generation)));
+			log.info("총 {}개의 공공외교 프로그램을 가져와 {}개를 저장했습니다.", fetchedCount, savedCount.get());
+
+			// 적재가 끝난 뒤 활성 세대를 한 번에 교체하고 이전 세대 정리
+			if (savedCount.get() > 0) {
+				ingestionBatchRepository.activateGeneration(Dataset.PUBLIC_DIPLOMACY_PROGRAMS, generation);
+				int removedCount = ingestionBatchRepository.deleteInactive(Dataset.PUBLIC_DIPLOMACY_PROGRAMS);
+				log.info("공공외교 프로그램 세대 교체 완료: generation={}, 이전 세대 {}개 삭제", generation, removedCount);
 			} else {
-				throw new RuntimeException("API 응답이 올바르지 않습니다.");
+				log.warn("저장된 공공외교 프로그램이 없어 기존 세대를 유지합니다.");
 			}
+
+			logProcessingResults();
 		} catch (Exception e) {
 			log.error("API 호출 실패", e);
 			throw new RuntimeException("공공외교 프로그램 업데이트 실패: " + e.getMessage(), e);
 		}
 	}
 
-	private boolean isValidResponse(PublicDiplomacyApiResponse response) {
-		return response != null &&
-			response.getResponse() != null &&
-			"0".equals(response.getResponse().getHeader().getResultCode()) &&
-			response.getResponse().getBody() != null &&
-			response.getResponse().getBody().getItems() != null &&
-			response.getResponse().getBody().getItems().getItem() != null;
+	private String programApiUrl(int pageNo, int numOfRows) {
+		return String.format(
+			baseUrl + "/B260004/PublicDiplomacyBusinessInfoService/getPublicDiplomacyBusinessInfoList?serviceKey=%s&pageNo=%d&numOfRows=%d",
+			serviceKey, pageNo, numOfRows
+		);
 	}
 
-	private void processPrograms(List<PublicDiplomacyApiResponse.Item> items) {
-		int processedCount = 0;
+	/**
+	 * 한 묶음의 프로그램을 분류해서 배치 저장
+	 *
+	 * @return 저장한 프로그램 수
+	 */
+	private int processPrograms(List<PublicDiplomacyApiResponse.Item> items, long generation) {
+		List<PublicDiplomacyProgram> programs = new ArrayList<>(items.size());
 		int errorCount = 0;
 
 		for (PublicDiplomacyApiResponse.Item item : items) {
 			try {
-				if (processProgram(item)) {
-					processedCount++;
+				PublicDiplomacyProgram program = toProgram(item);
+				if (program != null) {
+					programs.add(program);
 				}
 			} catch (Exception e) {
 				errorCount++;
@@ -109,12 +114,17 @@ public class PublicDiplomacyService {
 			}
 		}
 
-		log.info("처리 완료: 성공 {}개, 실패 {}개", processedCount, errorCount);
+		ingestionBatchRepository.insertPublicDiplomacyPrograms(programs, generation);
+		log.debug("프로그램 묶음 저장: 성공 {}개, 실패 {}개", programs.size(), errorCount);
+		return programs.size();
 	}
 
-	private boolean processProgram(PublicDiplomacyApiResponse.Item item) {
+	/**
+	 * @return 저장 대상이 아니면 null
+	 */
+	private PublicDiplomacyProgram toProgram(PublicDiplomacyApiResponse.Item item) {
 		if (item.getBusinessName() == null || item.getBusinessName().trim().isEmpty()) {
-			return false;
+			return null;
 		}
 
 		String businessName = item.getBusinessName().trim();
@@ -122,12 +132,15 @@ public class PublicDiplomacyService {
 		String unitBusiness = item.getUnitBusiness() != null ? item.getUnitBusiness() : "";
 		String detailBusiness = item.getDetailBusiness() != null ? item.getDetailBusiness() : "";
 
-		// 유형 매칭
-		String bestMatchType = findBestMatchingType(businessName, businessPurpose, unitBusiness, detailBusiness);
-		int matchScore = calculateMatchScore(businessName, businessPurpose, unitBusiness, detailBusiness, bestMatchType);
+		// 유형 매칭 - 본문을 한 번만 훑어 유형별 점수 계산
+		String fullText = (businessName + " " + businessPurpose + " " + unitBusiness + " " + detailBusiness).toLowerCase();
+		int[] typeScores = TYPE_MATCHER.countByType(fullText);
+		int bestIndex = KeywordMatcher.indexOfMax(typeScores);
+		String bestMatchType = TYPE_MATCHER.getTypes().get(bestIndex);
+		int matchScore = typeScores[bestIndex];
 
 		if (matchScore <= 0) {
-			return false;
+			return null;
 		}
 
 		try {
@@ -147,62 +160,11 @@ public class PublicDiplomacyService {
 				.matchScore(matchScore)
 				.build();
 
-			programRepository.save(program);
-			return true;
+			return program;
 
 		} catch (Exception e) {
-			log.error("프로그램 저장 실패: {} - {}", businessName, e.getMessage());
-			return false;
-		}
-	}
-
-	private String findBestMatchingType(String businessName, String businessPurpose, String unitBusiness, String detailBusiness) {
-		String fullText = (businessName + " " + businessPurpose + " " + unitBusiness + " " + detailBusiness).toLowerCase();
-		Map<String, Integer> typeScores = new HashMap<>();
-
-		for (Map.Entry<String, List<String>> entry : TYPE_KEYWORDS.entrySet()) {
-			int score = 0;
-			for (String keyword : entry.getValue()) {
-				score += countOccurrences(fullText, keyword);
-			}
-			typeScores.put(entry.getKey(), score);
-		}
-
-		return typeScores.entrySet().stream()
-			.max(Map.Entry.comparingByValue())
-			.map(Map.Entry::getKey)
-			.orElse("CULTURAL_DIPLOMACY");
-	}
-
-	private int calculateMatchScore(String businessName, String businessPurpose, String unitBusiness, String detailBusiness, String type) {
-		String fullText = (businessName + " " + businessPurpose + " " + unitBusiness + " " + detailBusiness).toLowerCase();
-		List<String> keywords = TYPE_KEYWORDS.get(type);
-
-		int score = 0;
-		for (String keyword : keywords) {
-			score += countOccurrences(fullText, keyword);
-		}
-		return score;
-	}
-
-	private int countOccurrences(String text, String keyword) {
-		int count = 0;
-		int index = 0;
-		while ((index = text.indexOf(keyword, index)) != -1) {
-			count++;
-			index += keyword.length();
-		}
-		return count;
-	}
-
-	private void keepTopProgramsPerType() {
-		for (String type : TYPE_KEYWORDS.keySet()) {
-			List<PublicDiplomacyProgram> allPrograms = programRepository.findTop5ByCitizenTypeOrderByMatchScoreDescBusinessYearDesc(type);
-
-			if (allPrograms.size() > 5) {
-				List<PublicDiplomacyProgram> toDelete = allPrograms.subList(5, allPrograms.size());
-				programRepository.deleteAll(toDelete);
-			}
+			log.error("프로그램 변환 실패: {} - {}", businessName, e.getMessage());
+			return null;
 		}
 	}
 
@@ -216,7 +178,7 @@ public class PublicDiplomacyService {
 
 	// 특정 유형의 추천 프로그램 조회
 	public List<RecommendedDiplomacyProgram> getRecommendedPrograms(String citizenType) {
-		List<PublicDiplomacyProgram> programs = programRepository.findTop5ByCitizenTypeOrderByMatchScoreDescBusinessYearDesc(citizenType);
+		List<PublicDiplomacyProgram> programs = programRepository.findTop5ByCitizenTypeAndActiveTrueOrderByMatchScoreDescBusinessYearDesc(citizenType);
 
 		return programs.stream()
 			.map(this::convertToRecommendedDto)
@@ -240,7 +202,7 @@ public class PublicDiplomacyService {
 		Map<String, Object> status = new HashMap<>();
 
 		// 전체 프로그램 개수
-		long totalCount = programRepository.count();
+		long totalCount = programRepository.countByActiveTrue();
 		status.put("totalCount", totalCount);
 
 		// 각 유형별 개수
@@ -266,13 +228,13 @@ public class PublicDiplomacyService {
 		status.put("typeDisplayNames", typeDisplayNames);
 
 		// 최근 업데이트 시간
-		programRepository.findTopByOrderByCreatedAtDesc()
+		programRepository.findTopByActiveTrueOrderByCreatedAtDesc()
 			.ifPresent(latestProgram ->
 				status.put("lastUpdated", latestProgram.getCreatedAt())
 			);
 
 		// 최신 사업연도
-		programRepository.findTopByOrderByBusinessYearDesc()
+		programRepository.findTopByActiveTrueOrderByBusinessYearDesc()
 			.ifPresent(latestYear ->
 				status.put("latestBusinessYear", latestYear.getBusinessYear())
 			);
@@ -285,7 +247,7 @@ public class PublicDiplomacyService {
 		Map<String, List<String>> examples = new HashMap<>();
 
 		for (String type : TYPE_KEYWORDS.keySet()) {
-			List<PublicDiplomacyProgram> programs = programRepository.findTop3ByCitizenTypeOrderByMatchScoreDesc(type);
+			List<PublicDiplomacyProgram> programs = programRepository.findTop3ByCitizenTypeAndActiveTrueOrderByMatchScoreDesc(type);
 			List<String> businessNames = programs.stream()
 				.map(PublicDiplomacyProgram::getBusinessName)
 				.collect(Collectors.toList());
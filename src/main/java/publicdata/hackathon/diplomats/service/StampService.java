@@ -26,6 +26,8 @@ import publicdata.hackathon.diplomats.domain.entity.UserStamp;
 import publicdata.hackathon.diplomats.domain.enums.StampType;
 import publicdata.hackathon.diplomats.domain.enums.UserLevel;
 import publicdata.hackathon.diplomats.domain.enums.CitizenTypeEnum;
+import publicdata.hackathon.diplomats.exception.CustomException;
+import publicdata.hackathon.diplomats.exception.ErrorCode;
 import publicdata.hackathon.diplomats.repository.UserLevelHistoryRepository;
 import publicdata.hackathon.diplomats.repository.UserRepository;
 import publicdata.hackathon.diplomats.repository.UserStampRepository;
@@ -39,6 +41,7 @@ public class StampService {
     private final UserStampRepository userStampRepository;
     private final UserLevelHistoryRepository userLevelHistoryRepository;
     private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
     /**
      * 스탬프 지급 (중복 체크 포함)
@@ -56,12 +59,16 @@ public class StampService {
                 .build();
         }
 
+        // 넘겨받은 사용자는 캐시(최대 60초 전)의 분리된 객체일 수 있으므로 잠금을 걸고 다시 읽은 값에 더함
+        User lockedUser = userRepository.findByIdForUpdate(user.getId())
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
         // 이전 레벨 저장
-        UserLevel previousLevel = user.getCurrentLevel();
+        UserLevel previousLevel = lockedUser.getCurrentLevel();
 
         // 스탬프 생성 및 저장
         UserStamp stamp = UserStamp.builder()
-            .user(user)
+            .user(lockedUser)
             .stampType(stampType)
             .relatedEntityType(relatedEntityType)
             .relatedEntityId(relatedEntityId)
@@ -70,15 +77,15 @@ public class StampService {
         userStampRepository.save(stamp);
 
         // 사용자 스탬프 개수 업데이트 및 레벨 확인
-        user.addStamps(stampType.getStampCount());
-        userRepository.save(user);
+        lockedUser.addStamps(stampType.getStampCount());
+        userCacheService.evict(lockedUser.getUserId()); // 스탬프 수, 레벨 변경
 
         // 레벨업 확인 및 히스토리 저장
-        boolean leveledUp = user.hasLeveledUp(previousLevel);
+        boolean leveledUp = lockedUser.hasLeveledUp(previousLevel);
         if (leveledUp) {
-            saveLevelUpHistory(user, previousLevel);
+            saveLevelUpHistory(lockedUser, previousLevel);
             log.info("레벨업 발생: userId={}, {} -> {}", 
-                    user.getUserId(), previousLevel.getDisplayName(), user.getCurrentLevel().getDisplayName());
+                    lockedUser.getUserId(), previousLevel.getDisplayName(), lockedUser.getCurrentLevel().getDisplayName());
         }
 
         return StampEarnedResponse.builder()
@@ -87,13 +94,13 @@ public class StampService {
             .stampType(stampType)
             .stampDescription(stampType.getDescription())
             .stampsEarned(stampType.getStampCount())
-            .totalStamps(user.getTotalStamps())
-            .currentLevel(user.getCurrentLevel())
-            .currentLevelDisplay(user.getCurrentLevel().getDisplayName())
+            .totalStamps(lockedUser.getTotalStamps())
+            .currentLevel(lockedUser.getCurrentLevel())
+            .currentLevelDisplay(lockedUser.getCurrentLevel().getDisplayName())
             .leveledUp(leveledUp)
             .previousLevel(leveledUp ? previousLevel : null)
             .previousLevelDisplay(leveledUp ? previousLevel.getDisplayName() : null)
-            .stampsToNextLevel(user.getStampsToNextLevel())
+            .stampsToNextLevel(lockedUser.getStampsToNextLevel())
             .build();
     }
 
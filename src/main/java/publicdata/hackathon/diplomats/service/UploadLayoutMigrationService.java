@@ -0,0 +1,114 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.utils.UploadLayout;
+import publicdata.hackathon.diplomats.utils.UploadPresenceIndex;
+
+/**
+ * 평면 구조 업로드 파일을 하위 디렉토리 구조로 옮기는 백그라운드 작업
+ * 한 번에 batch-size개씩만 옮기고 다음 실행까지 쉬어서 디스크 I/O가 몰리지 않도록 함
+ * 옮기는 동안에도 URL/경로는 ImageUtil과 /uploads/** 리소스 핸들러가 양쪽 구조에서 찾음
+ *
+ * 파일 하나씩 같은 파일 시스템 안에서 이름만 바꾸므로(rename) 중간에 서버가 내려가도 다음 실행에서 이어서 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UploadLayoutMigrationService {
+
+	private final UploadPresenceIndex uploadPresenceIndex;
+
+	@Value("${diplomats.upload-layout.migration.enabled:true}")
+	private boolean enabled;
+
+	@Value("${diplomats.upload-layout.migration.batch-size:200}")
+	private int batchSize;
+
+	// 평면 구조에 남은 파일이 없을 때까지 로그 한 번만 남기기 위한 상태
+	private volatile boolean pending = true;
+
+	/**
+	 * 배치 하나 처리 - 남은 파일이 없으면 디렉토리 목록만 확인하고 끝남
+	 */
+	@Scheduled(fixedDelayString = "${diplomats.upload-layout.migration.batch-interval-ms:2000}",
+		initialDelayString = "${diplomats.upload-layout.migration.initial-delay-ms:60000}")
+	public void migrateBatch() {
+		if (!enabled) {
+			return;
+		}
+
+		int moved = 0;
+		for (String directory : UploadLayout.DIRECTORIES) {
+			if (moved >= batchSize) {
+				break;
+			}
+			moved += migrateDirectory(directory, batchSize - moved);
+		}
+
+		if (moved > 0) {
+			pending = true;
+			log.info("업로드 파일 구조 이전: {}개 이동", moved);
+		} else if (pending) {
+			pending = false;
+			log.info("업로드 파일 구조 이전 완료 (평면 구조에 남은 파일 없음)");
+		}
+	}
+
+	private int migrateDirectory(String directory, int limit) {
+		List<Path> candidates = new ArrayList<>();
+		// 목록 전체를 읽지 않고 이번 배치에 필요한 만큼만 꺼냄
+		try (DirectoryStream<Path> entries = Files.newDirectoryStream(Paths.get(directory), this::isFlatFile)) {
+			for (Path entry : entries) {
+				candidates.add(entry);
+				if (candidates.size() >= limit) {
+					break;
+				}
+			}
+		} catch (NoSuchFileException e) {
+			return 0;
+		} catch (IOException e) {
+			log.warn("업로드 디렉토리 목록 조회 실패: {}, error={}", directory, e.getMessage());
+			return 0;
+		}
+
+		int moved = 0;
+		for (Path source : candidates) {
+			String fileName = source.getFileName().toString();
+			String shardedPath = UploadLayout.shardedPath(directory, fileName);
+			try {
+				Path target = Paths.get(shardedPath);
+				Files.createDirectories(target.getParent());
+				Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+				uploadPresenceIndex.added(shardedPath);
+				uploadPresenceIndex.removed(UploadLayout.flatPath(directory, fileName));
+				moved++;
+			} catch (NoSuchFileException e) {
+				// 목록을 읽은 뒤 삭제된 파일
+			} catch (IOException e) {
+				log.warn("업로드 파일 이동 실패: {}, error={}", source, e.getMessage());
+			}
+		}
+		return moved;
+	}
+
+	// 하위 디렉토리(두 글자 이름)와 쓰는 중인 임시 파일은 제외 - 이름으로 먼저 거르고 나머지만 파일 시스템 확인
+	private boolean isFlatFile(Path entry) {
+		String name = entry.getFileName().toString();
+		return name.length() > 2 && !name.endsWith(".tmp") && Files.isRegularFile(entry);
+	}
+}
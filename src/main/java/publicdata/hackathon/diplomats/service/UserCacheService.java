@@ -0,0 +1,127 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.domain.entity.User;
+import publicdata.hackathon.diplomats.repository.UserRepository;
+
+/**
+ * userId 기준 사용자 조회 캐시
+ * - 요청 단위: 같은 요청 안에서는 필터, 서비스가 같은 User 객체를 공유 (요청당 최대 1회 조회)
+ * - 공유 캐시: 짧은 TTL 동안 요청 간에 재사용, 탈퇴/스탬프/레벨/시민력 테스트 변경시 즉시 무효화
+ *
+ * 캐시된 User는 영속성 컨텍스트 밖의 객체이므로 연관관계 설정, 조회 용도로만 사용하고
+ * 사용자 정보를 수정할 때는 UserRepository로 다시 조회해야 함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserCacheService {
+
+	private static final String REQUEST_ATTRIBUTE_PREFIX = UserCacheService.class.getName() + ".";
+
+	private final UserRepository userRepository;
+
+	@Value("${diplomats.user-cache.ttl-seconds:60}")
+	private long ttlSeconds;
+
+	@Value("${diplomats.user-cache.max-size:10000}")
+	private long maxSize;
+
+	// 요청 간에 공유되는 원본 (밖으로 직접 내보내지 않음)
+	private Cache<String, User> sharedCache;
+
+	@PostConstruct
+	public void init() {
+		this.sharedCache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			.build();
+	}
+
+	/**
+	 * 사용자 조회 - 현재 요청에서 이미 조회했으면 같은 객체, 아니면 공유 캐시 또는 DB에서 조회
+	 */
+	public Optional<User> findUser(String userId) {
+		if (userId == null || userId.isBlank()) {
+			return Optional.empty();
+		}
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+		if (requestAttributes != null) {
+			User requestUser = (User)requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+			if (requestUser != null) {
+				return Optional.of(requestUser);
+			}
+		}
+
+		User cached = sharedCache.getIfPresent(userId);
+		if (cached == null) {
+			// 없는 사용자는 캐시하지 않음 (가입 직후 조회 등)
+			cached = userRepository.findByUserId(userId).orElse(null);
+			if (cached == null) {
+				return Optional.empty();
+			}
+			sharedCache.put(userId, copyOf(cached));
+		}
+
+		// 요청마다 별도 사본을 사용해 다른 요청과 같은 객체를 공유하지 않도록 함
+		User user = copyOf(cached);
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(attributeName, user, RequestAttributes.SCOPE_REQUEST);
+		}
+		return Optional.of(user);
+	}
+
+	/**
+	 * 사용자 정보 변경시 캐시 무효화
+	 * 트랜잭션 안이면 커밋 이후에 한 번 더 지워서, 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막음
+	 */
+	public void evict(String userId) {
+		if (userId == null) {
+			return;
+		}
+		sharedCache.invalidate(userId);
+
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					sharedCache.invalidate(userId);
+				}
+			});
+		}
+		log.debug("사용자 캐시 무효화: userId={}", userId);
+	}
+
+	private User copyOf(User user) {
+		return User.builder()
+			.id(user.getId())
+			.userId(user.getUserId())
+			.password(user.getPassword())
+			.citizenType(user.getCitizenType())
+			.totalStamps(user.getTotalStamps())
+			.currentLevel(user.getCurrentLevel())
+			.build();
+	}
+}
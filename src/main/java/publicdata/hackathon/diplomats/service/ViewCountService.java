@@ -0,0 +1,127 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * 상세 조회마다 UPDATE 하지 않고 메모리에 누적한 뒤 주기적으로 한 번에 DB에 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountService {
+
+	private static final Map<String, String> UPDATE_SQL = Map.of(
+		"FreeBoard", "UPDATE free_board SET view_count = view_count + ? WHERE id = ?",
+		"DiscussBoard", "UPDATE discuss_board SET view_count = view_count + ? WHERE id = ?",
+		"Diary", "UPDATE diary SET view_count = view_count + ? WHERE id = ?"
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ViewDeduplicationService viewDeduplicationService;
+
+	// (게시글 타입, 게시글 ID) -> 아직 DB에 반영되지 않은 조회수
+	private final ConcurrentHashMap<ViewKey, LongAdder> pendingViews = new ConcurrentHashMap<>();
+	// 직전 flush에서 버퍼에서 뺀 빈 adder - 빼기 직전에 adder를 받아 간 조회가 늦게 더해질 수 있어 다음 flush에서 한 번 더 확인
+	private Map<ViewKey, LongAdder> retiredViews = new HashMap<>();
+
+	/**
+	 * 게시글 조회 기록 - 같은 사용자의 반복 조회는 일정 시간 동안 한 번만 집계
+	 */
+	public void recordView(String targetType, Long targetId, String viewerId) {
+		if (viewDeduplicationService.isFirstView(targetType, targetId, viewerId)) {
+			increment(targetType, targetId);
+		}
+	}
+
+	/**
+	 * 조회수 1 증가 (메모리에만 누적)
+	 */
+	public void increment(String targetType, Long targetId) {
+		if (!UPDATE_SQL.containsKey(targetType)) {
+			throw new IllegalArgumentException("지원하지 않는 타겟 타입입니다: " + targetType);
+		}
+		pendingViews.computeIfAbsent(new ViewKey(targetType, targetId), key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 조회수
+	 */
+	public long getPendingCount(String targetType, Long targetId) {
+		LongAdder adder = pendingViews.get(new ViewKey(targetType, targetId));
+		return adder != null ? adder.sum() : 0L;
+	}
+
+	/**
+	 * 응답용 조회수 (DB에 저장된 값 + 반영 대기 중인 값)
+	 */
+	public int getViewCount(String targetType, Long targetId, Integer persistedViewCount) {
+		int persisted = persistedViewCount != null ? persistedViewCount : 0;
+		return (int) (persisted + getPendingCount(targetType, targetId));
+	}
+
+	/**
+	 * 누적된 조회수를 타입별 배치 UPDATE로 DB에 반영
+	 */
+	@Scheduled(fixedDelayString = "${diplomats.view-count.flush-interval-ms:5000}")
+	@PreDestroy
+	public synchronized void flush() {
+		Map<String, List<Object[]>> batches = new HashMap<>();
+
+		retiredViews.forEach((key, adder) -> addToBatch(batches, key, adder.sumThenReset()));
+		Map<ViewKey, LongAdder> retired = new HashMap<>();
+
+		pendingViews.forEach((key, adder) -> {
+			long delta = adder.sumThenReset();
+			if (delta == 0) {
+				// 한 주기 동안 조회가 없던 게시글은 버퍼에서 제거 (조회 경로는 잠금 없이 increment만 하므로 제거 후 다음 주기에 다시 확인)
+				if (pendingViews.remove(key, adder)) {
+					retired.put(key, adder);
+				}
+				return;
+			}
+			addToBatch(batches, key, delta);
+		});
+		retiredViews = retired;
+
+		batches.forEach((targetType, args) -> {
+			try {
+				jdbcTemplate.batchUpdate(UPDATE_SQL.get(targetType), args);
+				log.debug("조회수 반영 완료: targetType={}, posts={}", targetType, args.size());
+			} catch (Exception e) {
+				log.error("조회수 반영 실패, 다음 주기에 재시도: targetType={}, error={}", targetType, e.getMessage());
+				// 반영하지 못한 증가분은 버퍼에 되돌림
+				for (Object[] arg : args) {
+					add(new ViewKey(targetType, (Long) arg[1]), (Long) arg[0]);
+				}
+			}
+		});
+	}
+
+	private void add(ViewKey key, long delta) {
+		pendingViews.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+	}
+
+	private void addToBatch(Map<String, List<Object[]>> batches, ViewKey key, long delta) {
+		if (delta != 0) {
+			batches.computeIfAbsent(key.targetType(), type -> new ArrayList<>())
+				.add(new Object[] {delta, key.targetId()});
+		}
+	}
+
+	private record ViewKey(String targetType, Long targetId) {
+	}
+}
@@ -0,0 +1,199 @@
+package publicdata.hackathon.diplomats.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회수 중복 제거
+ * 같은 사용자가 일정 시간(window) 안에 같은 게시글을 다시 조회하면 조회수를 올리지 않음 (비로그인 조회는 IP + User-Agent 기준)
+ * (viewer, 게시글) 쌍은 시간 구간별 Bloom filter 2개(현재/이전)에 기록하므로 메모리 사용량이 고정됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewDeduplicationService {
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${diplomats.view-dedup.window-minutes:30}")
+	private long windowMinutes;
+
+	// 구간당 예상 조회 건수와 허용 오탐률로 Bloom filter 크기 결정
+	@Value("${diplomats.view-dedup.expected-views:100000}")
+	private int expectedViews;
+
+	@Value("${diplomats.view-dedup.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	private int numBits;
+	private int numHashes;
+	private long windowMillis;
+
+	private volatile BloomBucket current;
+	private volatile BloomBucket previous;
+
+	private Counter hitCounter;
+	private Counter missCounter;
+
+	@PostConstruct
+	public void init() {
+		double ln2 = Math.log(2);
+		this.numBits = (int) Math.ceil(-expectedViews * Math.log(falsePositiveRate) / (ln2 * ln2));
+		this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedViews * ln2));
+		this.windowMillis = windowMinutes * 60 * 1000;
+
+		long now = System.currentTimeMillis();
+		this.current = new BloomBucket(numBits, now);
+		this.previous = new BloomBucket(numBits, now);
+
+		this.hitCounter = Counter.builder("diplomats.view.dedup")
+			.tag("result", "duplicate")
+			.description("중복으로 판단되어 조회수에 반영하지 않은 조회")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("diplomats.view.dedup")
+			.tag("result", "counted")
+			.description("조회수에 반영한 조회")
+			.register(meterRegistry);
+		Gauge.builder("diplomats.view.dedup.hit.ratio", this, ViewDeduplicationService::getHitRatio)
+			.description("조회 중 중복으로 걸러진 비율")
+			.register(meterRegistry);
+
+		log.info("조회수 중복 제거 초기화: window={}분, bits={}, hashes={}, memory={}KB",
+			windowMinutes, numBits, numHashes, 2L * numBits / 8 / 1024);
+	}
+
+	/**
+	 * 조회수에 반영해야 하는 조회인지 확인하고 조회 기록을 남김
+	 * @return window 안에서 처음 보는 (viewer, 게시글) 쌍이면 true
+	 */
+	public boolean isFirstView(String targetType, Long targetId, String viewerId) {
+		String viewerKey = viewerId != null ? "user:" + viewerId : anonymousViewerKey();
+		if (viewerKey == null) {
+			// 요청 밖에서 호출되어 조회자를 식별할 수 없으면 중복 제거하지 않음
+			return true;
+		}
+
+		rotateIfExpired();
+
+		long hash = hash(targetType + ':' + targetId + ':' + viewerKey);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+		boolean seenBefore = previous.mightContain(h1, h2, numHashes);
+		boolean added = current.put(h1, h2, numHashes);
+
+		if (seenBefore || !added) {
+			hitCounter.increment();
+			return false;
+		}
+		missCounter.increment();
+		return true;
+	}
+
+	/**
+	 * 비로그인 조회자 식별 - 클라이언트 IP + User-Agent
+	 * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr가 실제 클라이언트 IP를 돌려줌
+	 * (X-Forwarded-For를 직접 읽으면 클라이언트가 값을 바꿔 가며 조회수를 올릴 수 있음)
+	 */
+	private String anonymousViewerKey() {
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return null;
+		}
+		HttpServletRequest request = attributes.getRequest();
+		String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+		return "anon:" + request.getRemoteAddr() + ':' + (userAgent != null ? userAgent : "");
+	}
+
+	public double getHitRatio() {
+		double hits = hitCounter.count();
+		double total = hits + missCounter.count();
+		return total == 0 ? 0.0 : hits / total;
+	}
+
+	/**
+	 * window가 지나면 현재 구간을 이전 구간으로 밀어내고 새 구간 시작
+	 */
+	private void rotateIfExpired() {
+		long now = System.currentTimeMillis();
+		if (now - current.startedAt < windowMillis) {
+			return;
+		}
+		synchronized (this) {
+			if (now - current.startedAt >= windowMillis) {
+				previous = current;
+				current = new BloomBucket(numBits, now);
+			}
+		}
+	}
+
+	// FNV-1a 64bit
+	private static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			h ^= key.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		return h;
+	}
+
+	// MurmurHash3 fmix64
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static final class BloomBucket {
+		private final AtomicLongArray bits;
+		private final int numBits;
+		private final long startedAt;
+
+		BloomBucket(int numBits, long startedAt) {
+			this.bits = new AtomicLongArray((numBits + 63) / 64);
+			this.numBits = numBits;
+			this.startedAt = startedAt;
+		}
+
+		boolean mightContain(long h1, long h2, int numHashes) {
+			for (int i = 0; i < numHashes; i++) {
+				int index = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+				if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * @return 새로 켜진 비트가 있으면 true (처음 기록되는 값)
+		 */
+		boolean put(long h1, long h2, int numHashes) {
+			boolean changed = false;
+			for (int i = 0; i < numHashes; i++) {
+				int index = (int) Long.remainderUnsigned(h1 + i * h2, numBits);
+				long mask = 1L << index;
+				long prev = bits.getAndAccumulate(index >>> 6, mask, (a, b) -> a | b);
+				if ((prev & mask) == 0) {
+					changed = true;
+				}
+			}
+			return changed;
+		}
+	}
+}
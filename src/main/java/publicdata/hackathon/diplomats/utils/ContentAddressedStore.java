@@ -0,0 +1,213 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.domain.enums.ImageVariant;
+import publicdata.hackathon.diplomats.repository.StoredBlobRepository;
+
+/**
+ * 내용 주소 기반 업로드 저장소
+ * 업로드 내용을 SHA-256으로 해시해서 {해시}.{확장자} 이름으로 한 번만 저장하고, 참조 수(stored_blobs.ref_count)로 공유
+ * 이미 있는 내용이면 복사해 둔 임시 파일을 버리고 참조 수만 증가
+ *
+ * 참조 수 증가는 업로드한 쪽 트랜잭션에서 함께 커밋/롤백
+ * - 업로드 후 롤백되면 참조 수는 함께 되돌아가고, 다른 곳에서 참조하지 않는 파일만 삭제
+ * - 삭제(release)는 커밋된 뒤에 별도 트랜잭션으로 참조 해제, 0이 되면 파일과 변환본 삭제
+ * 같은 파일에 대한 저장/삭제는 stored_blobs 행 잠금으로 순서를 맞춤 - 파일 확인/이동/삭제는 해당 행을 잠근 트랜잭션 안에서만 수행
+ * (JVM 잠금을 잡은 채 다른 트랜잭션의 행 잠금을 기다리면 교착되므로 DB 행 잠금만 사용)
+ */
+@Slf4j
+@Component
+public class ContentAddressedStore {
+
+	public static final String BLOB_DIR = "uploads/blobs/";
+
+	// {해시}.{확장자} 또는 변환본 {해시}_{접미사}.{확장자}
+	private static final Pattern BLOB_NAME = Pattern.compile("^[0-9a-f]{64}(_[a-z]+)?\\.[a-z0-9]+$");
+
+	private final StoredBlobRepository storedBlobRepository;
+	private final UploadPresenceIndex uploadPresenceIndex;
+	// 참조 추가 - 호출한 쪽 트랜잭션에 참여 (없으면 새로 시작)
+	private final TransactionTemplate transaction;
+	// 커밋/롤백 이후 콜백에서 쓰는 트랜잭션 - 끝난 원래 트랜잭션에 참여하지 않도록 REQUIRES_NEW
+	private final TransactionTemplate newTransaction;
+
+	public ContentAddressedStore(StoredBlobRepository storedBlobRepository, UploadPresenceIndex uploadPresenceIndex,
+		PlatformTransactionManager transactionManager) {
+		this.storedBlobRepository = storedBlobRepository;
+		this.uploadPresenceIndex = uploadPresenceIndex;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.newTransaction = new TransactionTemplate(transactionManager);
+		this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 내용 기반 저장 파일(또는 그 변환본)인지 - 기존 UUID 파일명은 게시판별 디렉토리에 있음
+	 */
+	public static boolean isBlobName(String fileName) {
+		return fileName != null && BLOB_NAME.matcher(fileName).matches();
+	}
+
+	/**
+	 * 업로드 파일 저장 (같은 내용이 이미 있으면 참조 수만 증가)
+	 * 임시 파일에 한 번 복사하면서 해시를 계산하고, 같은 내용이 이미 있으면 임시 파일을 버림
+	 *
+	 * @param extension 원본 파일 확장자 (".jpg" 형태)
+	 * @return 저장 파일명 ({해시}.{확장자})
+	 */
+	public String store(MultipartFile file, String extension) throws IOException {
+		Files.createDirectories(Paths.get(BLOB_DIR));
+		// 임시 파일에 쓴 뒤 이름을 바꿔서, 쓰는 중인 파일이 노출되지 않도록 함
+		Path temp = Files.createTempFile(Paths.get(BLOB_DIR), "upload-", ".tmp");
+		try {
+			MessageDigest digest = newDigest();
+			long fileSize;
+			try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+				fileSize = Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+			}
+			String blobName = HexFormat.of().formatHex(digest.digest()) + extension.toLowerCase(Locale.ROOT);
+			storeTemp(temp, blobName, fileSize);
+			return blobName;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private void storeTemp(Path temp, String blobName, long fileSize) throws IOException {
+		Path target = Paths.get(UploadLayout.shardedPath(BLOB_DIR, blobName));
+
+		try {
+			transaction.executeWithoutResult(status -> {
+				// 행 잠금은 호출한 쪽 트랜잭션이 끝날 때까지 유지 - 그동안 같은 파일의 참조 해제/정리는 기다림
+				storedBlobRepository.acquire(blobName, fileSize);
+				try {
+					// 평면 구조 위치를 먼저 확인 (확인하는 사이 UploadLayoutMigrationService가 옮겨도 새 위치에서 찾음)
+					if (Files.exists(Paths.get(UploadLayout.flatPath(BLOB_DIR, blobName))) || Files.exists(target)) {
+						log.debug("같은 내용의 파일이 있어 재사용: {}", blobName);
+					} else {
+						Files.createDirectories(target.getParent());
+						Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+						uploadPresenceIndex.added(UploadLayout.shardedPath(BLOB_DIR, blobName));
+					}
+				} catch (IOException e) {
+					// 호출한 쪽 트랜잭션이 롤백 전용으로 표시되어 참조 수 증가도 커밋되지 않음
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		// 참조 수는 호출한 쪽 트랜잭션과 함께 롤백되므로, 이때 새로 쓴 파일만 정리
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						deleteIfUnreferenced(blobName, fileSize);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * 참조 해제 - 트랜잭션 안이면 커밋된 뒤에 처리 (롤백되면 이미지 행이 남으므로 파일도 유지)
+	 */
+	public void release(String blobName) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					releaseNow(blobName);
+				}
+			});
+		} else {
+			releaseNow(blobName);
+		}
+	}
+
+	// 참조 수 감소로 잡은 행 잠금을 유지한 채 파일까지 지우고 커밋 - 그 사이 같은 내용을 올리는 쪽은 커밋 후 파일이 없음을 보고 새로 씀
+	private void releaseNow(String blobName) {
+		try {
+			newTransaction.executeWithoutResult(status -> {
+				storedBlobRepository.decrementRefCount(blobName);
+				if (storedBlobRepository.deleteIfUnreferenced(blobName) > 0) {
+					deleteBlobFilesUnchecked(blobName);
+				}
+			});
+		} catch (Exception e) {
+			log.error("파일 참조 해제 실패: {}", blobName, e);
+		}
+	}
+
+	// 업로드한 트랜잭션이 롤백된 경우 - 다른 곳에서 참조하지 않는 파일이면 삭제
+	// 행이 없을 수도 있으므로 참조 0인 행을 만들거나 기존 행을 잠근 뒤 확인 (아직 커밋되지 않은 다른 업로드가 있으면 그 커밋을 기다림)
+	private void deleteIfUnreferenced(String blobName, long fileSize) {
+		try {
+			newTransaction.executeWithoutResult(status -> {
+				storedBlobRepository.lockOrCreate(blobName, fileSize);
+				if (storedBlobRepository.deleteIfUnreferenced(blobName) > 0) {
+					deleteBlobFilesUnchecked(blobName);
+				}
+			});
+		} catch (Exception e) {
+			log.error("롤백된 업로드 파일 정리 실패: {}", blobName, e);
+		}
+	}
+
+	private void deleteBlobFilesUnchecked(String blobName) {
+		try {
+			deleteBlobFiles(blobName);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void deleteBlobFiles(String blobName) throws IOException {
+		deleteBothLayouts(blobName);
+		for (String variantFileName : ImageVariant.allFileNamesFor(blobName)) {
+			deleteBothLayouts(variantFileName);
+		}
+		log.info("참조가 없는 파일 삭제: {}", blobName);
+	}
+
+	// 평면 구조 쪽을 먼저 지움 - 그 사이 구조 이전 작업이 파일을 옮겼다면 다음 줄에서 새 위치의 파일이 지워짐
+	private void deleteBothLayouts(String fileName) throws IOException {
+		String flatPath = UploadLayout.flatPath(BLOB_DIR, fileName);
+		String shardedPath = UploadLayout.shardedPath(BLOB_DIR, fileName);
+		Files.deleteIfExists(Paths.get(flatPath));
+		Files.deleteIfExists(Paths.get(shardedPath));
+		uploadPresenceIndex.removed(flatPath);
+		uploadPresenceIndex.removed(shardedPath);
+	}
+
+	private MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
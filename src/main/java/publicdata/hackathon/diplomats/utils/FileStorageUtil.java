@@ -2,23 +2,26 @@ package publicdata.hackathon.diplomats.utils;
 
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import publicdata.hackathon.diplomats.domain.enums.ImageVariant;
 import publicdata.hackathon.diplomats.exception.CustomException;
 import publicdata.hackathon.diplomats.exception.ErrorCode;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileStorageUtil {
 
+    private final ContentAddressedStore contentAddressedStore;
+    private final UploadPresenceIndex uploadPresenceIndex;
+
     private final String baseUploadDir = "uploads/";
     private final String freeBoardDir = "uploads/freeboard/";
     private final String discussBoardDir = "uploads/discussboard/";
@@ -37,6 +40,7 @@ public class FileStorageUtil {
           Files.createDirectories(Paths.get(freeBoardDir));
           Files.createDirectories(Paths.get(discussBoardDir));
           Files.createDirectories(Paths.get(diaryDir));
+          Files.createDirectories(Paths.get(ContentAddressedStore.BLOB_DIR));
           log.info("파일 업로드 디렉토리 초기화 완료");
        } catch (IOException e) {
           log.error("업로드 디렉토리 생성 실패", e);
@@ -45,31 +49,24 @@ public class FileStorageUtil {
     }
 
     /**
-     * 파일을 지정된 디렉토리에 저장
+     * 파일 저장
+     * 게시판 구분 없이 내용 기준으로 uploads/blobs/에 한 번만 저장 (같은 이미지를 다시 올리면 참조 수만 증가)
      * @param file 저장할 파일
-     * @param uploadDir 저장할 디렉토리 (예: "uploads/freeboard/")
-     * @return 저장된 파일명
+     * @param uploadDir 게시판별 디렉토리 - 기존 파일 호환용으로만 유지
+     * @return 저장된 파일명 ({해시}.{확장자})
      */
     public String saveFile(MultipartFile file, String uploadDir) {
         // 파일 유효성 검사
         validateFile(file);
         
         try {
-            // 디렉토리가 존재하지 않으면 생성
-            Files.createDirectories(Paths.get(uploadDir));
-            
-            // 파일명 생성 (UUID + 원본 파일명)
             String originalFileName = file.getOriginalFilename();
             if (originalFileName == null || originalFileName.isEmpty()) {
                 throw new CustomException(ErrorCode.INVALID_FILE_FORMAT, "파일명이 올바르지 않습니다.");
             }
             
             String extension = getFileExtension(originalFileName);
-            String savedFileName = UUID.randomUUID().toString() + extension;
-
-            // 파일 저장
-            Path targetLocation = Paths.get(uploadDir + savedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            String savedFileName = contentAddressedStore.store(file, extension);
 
             log.info("파일 저장 완료: originalName={}, savedName={}, size={}", 
                 originalFileName, savedFileName, file.getSize());
@@ -125,24 +122,35 @@ public class FileStorageUtil {
 
     /**
      * 파일 삭제
+     * 내용 기반 저장 파일은 참조 수만 줄이고, 더 이상 참조하는 이미지가 없을 때 실제로 삭제
      * @param savedFileName 삭제할 파일명
-     * @param uploadDir 파일이 저장된 디렉토리
+     * @param uploadDir 파일이 저장된 디렉토리 (기존 UUID 파일명인 경우)
      */
     public void deleteFile(String savedFileName, String uploadDir) {
         if (savedFileName == null || savedFileName.trim().isEmpty()) {
             log.warn("삭제할 파일명이 비어있음");
             return;
         }
+
+        if (ContentAddressedStore.isBlobName(savedFileName)) {
+            contentAddressedStore.release(savedFileName);
+            return;
+        }
         
         try {
-            Path filePath = Paths.get(uploadDir + savedFileName);
-            boolean deleted = Files.deleteIfExists(filePath);
+            // 하위 디렉토리로 옮기는 중일 수 있으므로 두 구조 모두 확인
+            boolean deleted = deleteBothLayouts(savedFileName, uploadDir);
             
             if (deleted) {
                 log.info("파일 삭제 완료: {}", savedFileName);
             } else {
                 log.warn("삭제할 파일이 존재하지 않음: {}", savedFileName);
             }
+
+            // 썸네일/중간 크기 변환본도 함께 삭제 (변환 전이면 없음)
+            for (String variantFileName : ImageVariant.allFileNamesFor(savedFileName)) {
+                deleteBothLayouts(variantFileName, uploadDir);
+            }
             
         } catch (IOException e) {
             log.error("파일 삭제 실패: fileName={}, error={}", savedFileName, e.getMessage(), e);
@@ -150,6 +158,19 @@ public class FileStorageUtil {
         }
     }
 
+    /**
+     * 평면 구조를 먼저 지우고 하위 디렉토리 구조를 지움 (그 사이 옮겨진 파일도 남지 않도록)
+     */
+    private boolean deleteBothLayouts(String fileName, String uploadDir) throws IOException {
+        String flatPath = UploadLayout.flatPath(uploadDir, fileName);
+        String shardedPath = UploadLayout.shardedPath(uploadDir, fileName);
+        boolean deleted = Files.deleteIfExists(Paths.get(flatPath));
+        deleted |= Files.deleteIfExists(Paths.get(shardedPath));
+        uploadPresenceIndex.removed(flatPath);
+        uploadPresenceIndex.removed(shardedPath);
+        return deleted;
+    }
+
     /**
      * FreeBoard 파일 삭제 (기존 호환성 유지)
      * @param savedFileName 삭제할 파일명
@@ -243,8 +264,9 @@ public class FileStorageUtil {
         }
         
         try {
-            Path filePath = Paths.get(uploadDir + fileName);
-            return Files.exists(filePath);
+            String directory = ContentAddressedStore.isBlobName(fileName) ? ContentAddressedStore.BLOB_DIR : uploadDir;
+            return Files.exists(Paths.get(UploadLayout.flatPath(directory, fileName)))
+                || Files.exists(Paths.get(UploadLayout.shardedPath(directory, fileName)));
         } catch (Exception e) {
             log.error("파일 존재 확인 실패: fileName={}, error={}", fileName, e.getMessage());
             return false;
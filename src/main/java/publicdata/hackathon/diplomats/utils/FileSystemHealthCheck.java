@@ -8,16 +8,21 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileSystemHealthCheck {
 
+    private final UploadPresenceIndex uploadPresenceIndex;
+
     private final String[] uploadDirectories = {
         "uploads/freeboard/",
         "uploads/discussboard/", 
-        "uploads/diary/"
+        "uploads/diary/",
+        ContentAddressedStore.BLOB_DIR
     };
 
     @EventListener(ApplicationReadyEvent.class)
@@ -40,6 +45,9 @@ public class FileSystemHealthCheck {
         } else {
             log.warn("⚠️ 일부 업로드 디렉토리에 문제가 있습니다");
         }
+
+        // 디렉토리 확인이 끝난 김에 업로드 파일 인덱스 생성 (이후 상세 조회는 파일 시스템 대신 인덱스 사용)
+        uploadPresenceIndex.reconcile();
     }
     
     private boolean checkDirectory(String directory) {
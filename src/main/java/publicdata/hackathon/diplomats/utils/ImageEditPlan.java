@@ -0,0 +1,144 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import lombok.Getter;
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
+import publicdata.hackathon.diplomats.exception.CustomException;
+import publicdata.hackathon.diplomats.exception.ErrorCode;
+
+/**
+ * 이미지 변경 내역(ImageEditManifest)을 기존 이미지 목록에 적용한 결과
+ * 삭제할 기존 이미지와 최종 순서(유지하는 기존 이미지 + 새 파일 인덱스)를 계산만 하고, 저장/삭제는 각 서비스에서 처리
+ */
+@Getter
+public final class ImageEditPlan<T> {
+
+	private static final String NEW_PREFIX = "new:";
+
+	private final List<T> removed;
+	private final List<Slot<T>> slots;
+
+	/**
+	 * 최종 순서의 한 자리 - 기존 이미지(existing) 또는 새 파일 인덱스(newIndex) 중 하나
+	 */
+	public record Slot<T>(T existing, Integer newIndex) {
+	}
+
+	private ImageEditPlan(List<T> removed, List<Slot<T>> slots) {
+		this.removed = removed;
+		this.slots = slots;
+	}
+
+	/**
+	 * @param existing 게시글의 기존 이미지
+	 * @param newCount 함께 올라온 새 파일 수 (images 파트)
+	 * @param maxImages 수정 후 최대 이미지 수
+	 */
+	public static <T> ImageEditPlan<T> of(ImageEditManifest manifest, List<T> existing, Function<T, Long> idOf,
+		Function<T, Integer> orderOf, int newCount, int maxImages) {
+		Map<Long, T> existingById = new LinkedHashMap<>();
+		existing.stream()
+			.sorted(Comparator.comparing(orderOf, Comparator.nullsLast(Comparator.naturalOrder())))
+			.forEach(image -> existingById.put(idOf.apply(image), image));
+
+		Set<Long> deleteIds = new HashSet<>(requireKnown(manifest.getDeleteImageIds(), existingById));
+		Set<Long> keepIds = manifest.getKeepImageIds() != null
+			? new HashSet<>(requireKnown(manifest.getKeepImageIds(), existingById))
+			: null;
+		if (keepIds != null && keepIds.stream().anyMatch(deleteIds::contains)) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "같은 이미지를 유지와 삭제에 함께 지정할 수 없습니다.");
+		}
+
+		List<T> removed = new ArrayList<>();
+		Map<Long, T> kept = new LinkedHashMap<>();
+		existingById.forEach((id, image) -> {
+			if (deleteIds.contains(id) || (keepIds != null && !keepIds.contains(id))) {
+				removed.add(image);
+			} else {
+				kept.put(id, image);
+			}
+		});
+
+		List<Slot<T>> slots = new ArrayList<>();
+		Set<Long> placedIds = new HashSet<>();
+		Set<Integer> placedNew = new HashSet<>();
+		if (manifest.getImageOrder() != null) {
+			for (String entry : manifest.getImageOrder()) {
+				if (entry != null && entry.startsWith(NEW_PREFIX)) {
+					int index = parseIndex(entry.substring(NEW_PREFIX.length()), newCount);
+					if (!placedNew.add(index)) {
+						throw new CustomException(ErrorCode.INVALID_INPUT, "이미지 순서에 중복된 항목이 있습니다: " + entry);
+					}
+					slots.add(new Slot<>(null, index));
+				} else {
+					Long id = parseId(entry);
+					T image = kept.get(id);
+					if (image == null) {
+						throw new CustomException(ErrorCode.INVALID_INPUT, "유지하지 않는 이미지는 순서에 넣을 수 없습니다: " + entry);
+					}
+					if (!placedIds.add(id)) {
+						throw new CustomException(ErrorCode.INVALID_INPUT, "이미지 순서에 중복된 항목이 있습니다: " + entry);
+					}
+					slots.add(new Slot<>(image, null));
+				}
+			}
+		}
+		// 순서에 없는 항목은 기존 이미지, 새 파일 순으로 뒤에 붙임
+		kept.forEach((id, image) -> {
+			if (!placedIds.contains(id)) {
+				slots.add(new Slot<>(image, null));
+			}
+		});
+		for (int index = 0; index < newCount; index++) {
+			if (!placedNew.contains(index)) {
+				slots.add(new Slot<>(null, index));
+			}
+		}
+
+		if (slots.size() > maxImages) {
+			throw new CustomException(ErrorCode.INVALID_INPUT,
+				String.format("이미지는 최대 %d장까지 등록 가능합니다.", maxImages));
+		}
+		return new ImageEditPlan<>(removed, slots);
+	}
+
+	private static List<Long> requireKnown(List<Long> ids, Map<Long, ?> existingById) {
+		if (ids == null) {
+			return List.of();
+		}
+		for (Long id : ids) {
+			if (!existingById.containsKey(id)) {
+				throw new CustomException(ErrorCode.INVALID_INPUT, "게시글에 없는 이미지입니다: " + id);
+			}
+		}
+		return ids;
+	}
+
+	private static Long parseId(String entry) {
+		try {
+			return Long.valueOf(entry);
+		} catch (NumberFormatException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "이미지 순서 항목이 올바르지 않습니다: " + entry);
+		}
+	}
+
+	private static int parseIndex(String value, int newCount) {
+		try {
+			int index = Integer.parseInt(value);
+			if (index >= 0 && index < newCount) {
+				return index;
+			}
+		} catch (NumberFormatException ignored) {
+			// 아래에서 같은 오류로 처리
+		}
+		throw new CustomException(ErrorCode.INVALID_INPUT, "새 이미지 인덱스가 올바르지 않습니다: new:" + value);
+	}
+}
@@ -0,0 +1,265 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import publicdata.hackathon.diplomats.domain.enums.ImageVariant;
+
+/**
+ * 업로드 이미지 변환본 생성
+ * 픽셀만 다시 인코딩하고 메타데이터는 옮기지 않으므로 EXIF(촬영 위치 등)는 변환본에 남지 않음
+ * 대신 EXIF 회전 정보는 픽셀에 미리 적용해서 휴대폰 사진이 눕지 않도록 함
+ */
+public final class ImageResizer {
+
+	private static final float JPEG_QUALITY = 0.82f;
+	private static final int EXIF_ORIENTATION_TAG = 0x0112;
+	// 이보다 큰 원본은 변환하지 않음 (압축 폭탄 방지)
+	private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+	// 디코딩 결과 최대 픽셀 수 (약 1600만 화소, ARGB 기준 64MB) - 넘으면 읽으면서 줄임
+	static final long MAX_DECODED_PIXELS = 16_000_000L;
+
+	private ImageResizer() {
+	}
+
+	/**
+	 * 원본 이미지 읽기 (EXIF 회전 적용)
+	 *
+	 * @return ImageIO가 읽을 수 없는 형식(webp 등)이면 null
+	 */
+	public static BufferedImage read(Path original) throws IOException {
+		byte[] bytes = Files.readAllBytes(original);
+		BufferedImage image;
+		try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+			if (readers == null || !readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				// 디코딩 전에 헤더의 크기만 보고 판단 - 파일은 작아도 해상도가 큰 이미지가 힙을 다 쓰지 않도록 함
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				long pixels = (long)width * height;
+				if (pixels > MAX_SOURCE_PIXELS) {
+					throw new IOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+				}
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = subsamplingFor(pixels);
+				if (subsampling > 1) {
+					param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				}
+				image = reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+		return applyOrientation(image, readExifOrientation(bytes));
+	}
+
+	/**
+	 * 디코딩한 픽셀 수가 MAX_DECODED_PIXELS 이하가 되도록 건너뛸 간격 (가로/세로 같은 간격이므로 픽셀 수는 제곱으로 줄어듦)
+	 * 가장 큰 변환본(1024px)보다 충분히 크게 남으므로 변환본 화질에는 영향 없음
+	 */
+	static int subsamplingFor(long pixels) {
+		return (int)Math.max(1, Math.ceil(Math.sqrt((double)pixels / MAX_DECODED_PIXELS)));
+	}
+
+	/**
+	 * 변환본을 원본과 같은 디렉토리에 저장 - 투명도가 있으면 PNG, 없으면 JPEG
+	 *
+	 * @return 저장한 파일명
+	 */
+	public static String write(BufferedImage source, Path directory, String savedFileName, ImageVariant variant)
+		throws IOException {
+		boolean hasAlpha = source.getColorModel().hasAlpha();
+		BufferedImage resized = resize(source, variant.getMaxSize(),
+			hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		String fileName = variant.fileNameFor(savedFileName, hasAlpha ? ".png" : ".jpg");
+		// 같은 원본을 공유하는 이미지가 동시에 변환해도 반쯤 쓴 파일이 보이지 않도록 임시 파일에 쓰고 교체
+		Path temp = Files.createTempFile(directory, "variant-", ".tmp");
+		try {
+			if (hasAlpha) {
+				ImageIO.write(resized, "png", temp.toFile());
+			} else {
+				writeJpeg(resized, temp);
+			}
+			Files.move(temp, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		return fileName;
+	}
+
+	/**
+	 * 긴 변이 maxSize 이하가 되도록 축소 (작은 이미지는 크기 유지, 형식만 변환)
+	 * 한 번에 많이 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄임
+	 */
+	static BufferedImage resize(BufferedImage source, int maxSize, int imageType) {
+		int width = source.getWidth();
+		int height = source.getHeight();
+		double scale = Math.min(1.0, (double)maxSize / Math.max(width, height));
+		int targetWidth = Math.max(1, (int)Math.round(width * scale));
+		int targetHeight = Math.max(1, (int)Math.round(height * scale));
+
+		BufferedImage current = source;
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			if (current == source && width == source.getWidth() && height == source.getHeight()) {
+				// 축소 없이 형식만 맞춤
+				width = targetWidth;
+				height = targetHeight;
+			}
+			BufferedImage step = new BufferedImage(width, height, imageType);
+			Graphics2D graphics = step.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				if (imageType == BufferedImage.TYPE_INT_RGB) {
+					// 투명 배경이 검게 나오지 않도록 흰색으로 채움
+					graphics.setColor(Color.WHITE);
+					graphics.fillRect(0, 0, width, height);
+				}
+				graphics.drawImage(current, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+			current = step;
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+
+	private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext()) {
+			throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+		}
+		ImageWriter writer = writers.next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(JPEG_QUALITY);
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+			writer.setOutput(output);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	/**
+	 * JPEG APP1(Exif) 세그먼트에서 회전 값(1~8) 읽기, 없으면 1
+	 */
+	static int readExifOrientation(byte[] jpeg) {
+		if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+			return 1;
+		}
+		int offset = 2;
+		while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+			int marker = jpeg[offset + 1] & 0xFF;
+			int length = ((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF);
+			if (marker == 0xDA || length < 2) {
+				// 이미지 데이터 시작 - 이후에는 메타데이터 없음
+				return 1;
+			}
+			int segmentStart = offset + 4;
+			if (marker == 0xE1 && segmentStart + 6 <= jpeg.length
+				&& jpeg[segmentStart] == 'E' && jpeg[segmentStart + 1] == 'x'
+				&& jpeg[segmentStart + 2] == 'i' && jpeg[segmentStart + 3] == 'f') {
+				return readTiffOrientation(jpeg, segmentStart + 6, Math.min(jpeg.length, offset + 2 + length));
+			}
+			offset += 2 + length;
+		}
+		return 1;
+	}
+
+	private static int readTiffOrientation(byte[] data, int tiffStart, int end) {
+		if (tiffStart + 8 > end) {
+			return 1;
+		}
+		boolean littleEndian = data[tiffStart] == 'I' && data[tiffStart + 1] == 'I';
+		int ifdOffset = readInt(data, tiffStart + 4, littleEndian);
+		int ifdStart = tiffStart + ifdOffset;
+		if (ifdOffset < 8 || ifdStart + 2 > end) {
+			return 1;
+		}
+		int entryCount = readShort(data, ifdStart, littleEndian);
+		for (int i = 0; i < entryCount; i++) {
+			int entry = ifdStart + 2 + i * 12;
+			if (entry + 12 > end) {
+				break;
+			}
+			if (readShort(data, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+				int orientation = readShort(data, entry + 8, littleEndian);
+				return orientation >= 1 && orientation <= 8 ? orientation : 1;
+			}
+		}
+		return 1;
+	}
+
+	private static int readShort(byte[] data, int offset, boolean littleEndian) {
+		int first = data[offset] & 0xFF;
+		int second = data[offset + 1] & 0xFF;
+		return littleEndian ? (second << 8) | first : (first << 8) | second;
+	}
+
+	private static int readInt(byte[] data, int offset, boolean littleEndian) {
+		int high = readShort(data, offset, littleEndian);
+		int low = readShort(data, offset + 2, littleEndian);
+		return littleEndian ? (low << 16) | high : (high << 16) | low;
+	}
+
+	/**
+	 * EXIF 회전 값대로 픽셀 회전/반전
+	 */
+	static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+		if (orientation <= 1 || orientation > 8) {
+			return image;
+		}
+		int width = image.getWidth();
+		int height = image.getHeight();
+		boolean swap = orientation >= 5;
+		AffineTransform transform = new AffineTransform();
+		switch (orientation) {
+			case 2 -> { transform.translate(width, 0); transform.scale(-1, 1); }
+			case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+			case 4 -> { transform.translate(0, height); transform.scale(1, -1); }
+			case 5 -> { transform.rotate(Math.PI / 2); transform.scale(1, -1); }
+			case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+			case 7 -> { transform.translate(height, width); transform.scale(-1, 1); transform.rotate(3 * Math.PI / 2); }
+			case 8 -> { transform.translate(0, width); transform.rotate(3 * Math.PI / 2); }
+			default -> { }
+		}
+
+		int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		BufferedImage rotated = new BufferedImage(swap ? height : width, swap ? width : height, type);
+		Graphics2D graphics = rotated.createGraphics();
+		try {
+			graphics.drawImage(image, transform, null);
+		} finally {
+			graphics.dispose();
+		}
+		return rotated;
+	}
+}
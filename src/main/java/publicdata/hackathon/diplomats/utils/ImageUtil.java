@@ -8,12 +8,16 @@ import java.util.Base64;
 
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ImageUtil {
 
+	private final UploadPresenceIndex uploadPresenceIndex;
+
 	public String encodeImageToBase64(String imagePath) {
 		try {
 			// 경로 유효성 검사
@@ -91,11 +95,15 @@ public class ImageUtil {
 	
 	/**
 	 * 이미지 파일 존재 여부 확인
+	 * 업로드 파일은 메모리 인덱스로 확인하고, 인덱스가 모르는 경로만 파일 시스템 조회
 	 */
 	public boolean imageExists(String imagePath) {
 		if (imagePath == null || imagePath.trim().isEmpty()) {
 			return false;
 		}
+		if (uploadPresenceIndex.covers(imagePath)) {
+			return uploadPresenceIndex.contains(imagePath);
+		}
 		
 		try {
 			Path path = Paths.get(imagePath);
@@ -122,10 +130,41 @@ public class ImageUtil {
 			return null;
 		}
 		
-		// uploadType: "freeboard", "discussboard", "diary"
-		return String.format("/uploads/%s/%s", uploadType, savedFileName);
+		// 항상 하위 디렉토리 구조의 URL - 아직 옮기지 않은 파일은 /uploads/** 리소스 핸들러가 평면 구조에서 찾음
+		return "/" + UploadLayout.shardedPath(uploadDirectory(savedFileName, uploadType), savedFileName);
+	}
+
+	/**
+	 * 저장 파일의 디스크 경로 (프로젝트 기준 상대 경로, 예: "uploads/blobs/3f/2a/3f2a...jpg")
+	 * 하위 디렉토리로 옮기는 중에는 실제로 있는 쪽을 반환 (둘 다 없으면 새 구조 경로)
+	 */
+	public String resolveImagePath(String savedFileName, String uploadType) {
+		String directory = uploadDirectory(savedFileName, uploadType);
+		String shardedPath = UploadLayout.shardedPath(directory, savedFileName);
+		String flatPath = UploadLayout.flatPath(directory, savedFileName);
+		if (uploadPresenceIndex.covers(shardedPath)) {
+			return !uploadPresenceIndex.contains(shardedPath) && uploadPresenceIndex.contains(flatPath)
+				? flatPath : shardedPath;
+		}
+		return !Files.exists(Paths.get(shardedPath)) && Files.exists(Paths.get(flatPath)) ? flatPath : shardedPath;
+	}
+
+	// 내용 기반 저장 파일은 게시판 구분 없이 blobs 디렉토리, 기존 파일은 uploadType("freeboard", "discussboard", "diary")별 디렉토리
+	private String uploadDirectory(String savedFileName, String uploadType) {
+		if (ContentAddressedStore.isBlobName(savedFileName)) {
+			return ContentAddressedStore.BLOB_DIR;
+		}
+		return String.format("uploads/%s/", uploadType);
 	}
 	
+	/**
+	 * 변환본(썸네일, 중간 크기) URL - 아직 만들어지지 않았으면 원본 URL
+	 */
+	public String generateVariantUrl(String variantFileName, String uploadType, String originalUrl) {
+		String variantUrl = generateImageUrl(variantFileName, uploadType);
+		return variantUrl != null ? variantUrl : originalUrl;
+	}
+
 	/**
 	 * 기본 이미지 URL 반환
 	 */
@@ -0,0 +1,174 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 유형별 키워드 점수 계산기 (Aho-Corasick)
+ * 모든 유형의 키워드를 하나의 오토마톤으로 컴파일해 두고, 본문을 한 번만 훑어서 유형별 키워드 등장 횟수를 계산
+ *
+ * 점수는 기존 String.indexOf 방식과 동일 - 키워드별로 겹치지 않는 등장 횟수의 합, 대소문자는 그대로 비교
+ * 컴파일된 객체는 불변이므로 여러 스레드에서 공유해도 됨
+ */
+public final class KeywordMatcher {
+
+	private static final int ROOT = 0;
+	private static final int[] NO_OUTPUT = new int[0];
+
+	private final List<String> types;
+
+	// 키워드 번호 -> 유형 번호, 키워드 길이
+	private final int[] keywordType;
+	private final int[] keywordLength;
+
+	// 문자 -> 키워드에 쓰인 문자 번호 (0이면 어떤 키워드에도 없는 문자)
+	private final char[] alphabetIndex;
+	private final int alphabetSize;
+	// 실패 링크까지 미리 반영한 전이표 [상태 * alphabetSize + 문자 번호] - 문자당 배열 조회 한 번
+	private final int[] transitions;
+	// 상태에 도달했을 때 끝나는 키워드 번호 (실패 링크로 이어진 상태의 키워드 포함)
+	private final int[][] outputs;
+
+	private KeywordMatcher(List<String> types, int[] keywordType, int[] keywordLength, char[] alphabetIndex,
+		int alphabetSize, int[] transitions, int[][] outputs) {
+		this.types = types;
+		this.keywordType = keywordType;
+		this.keywordLength = keywordLength;
+		this.alphabetIndex = alphabetIndex;
+		this.alphabetSize = alphabetSize;
+		this.transitions = transitions;
+		this.outputs = outputs;
+	}
+
+	/**
+	 * @param keywordsByType 유형 -> 키워드 목록 (유형 순서는 Map 순회 순서, 동점일 때 앞선 유형 우선)
+	 */
+	public static KeywordMatcher compile(Map<String, List<String>> keywordsByType) {
+		List<String> types = new ArrayList<>(keywordsByType.keySet());
+		List<Integer> keywordTypes = new ArrayList<>();
+		List<Integer> keywordLengths = new ArrayList<>();
+
+		// 1. 트라이 구성
+		List<Map<Character, Integer>> children = new ArrayList<>();
+		List<List<Integer>> nodeOutputs = new ArrayList<>();
+		children.add(new HashMap<>());
+		nodeOutputs.add(new ArrayList<>());
+
+		for (int typeIndex = 0; typeIndex < types.size(); typeIndex++) {
+			for (String keyword : keywordsByType.get(types.get(typeIndex))) {
+				if (keyword == null || keyword.isEmpty()) {
+					continue;
+				}
+				int state = ROOT;
+				for (int i = 0; i < keyword.length(); i++) {
+					Integer next = children.get(state).get(keyword.charAt(i));
+					if (next == null) {
+						next = children.size();
+						children.get(state).put(keyword.charAt(i), next);
+						children.add(new HashMap<>());
+						nodeOutputs.add(new ArrayList<>());
+					}
+					state = next;
+				}
+				nodeOutputs.get(state).add(keywordTypes.size());
+				keywordTypes.add(typeIndex);
+				keywordLengths.add(keyword.length());
+			}
+		}
+
+		// 2. 키워드에 쓰인 문자에 번호 부여 (1부터)
+		char[] alphabetIndex = new char[Character.MAX_VALUE + 1];
+		int alphabetSize = 1;
+		for (Map<Character, Integer> edges : children) {
+			for (char c : edges.keySet()) {
+				if (alphabetIndex[c] == 0) {
+					alphabetIndex[c] = (char)alphabetSize++;
+				}
+			}
+		}
+
+		// 3. BFS로 실패 링크를 계산하면서 전이표 채우기, 출력 병합
+		int stateCount = children.size();
+		int[] transitions = new int[stateCount * alphabetSize];
+		int[] failure = new int[stateCount];
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (Map.Entry<Character, Integer> edge : children.get(ROOT).entrySet()) {
+			transitions[ROOT * alphabetSize + alphabetIndex[edge.getKey()]] = edge.getValue();
+			queue.add(edge.getValue());
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			// 자식이 없는 문자는 실패 링크 상태의 전이를 그대로 사용
+			System.arraycopy(transitions, failure[state] * alphabetSize, transitions, state * alphabetSize,
+				alphabetSize);
+			for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+				int symbol = alphabetIndex[edge.getKey()];
+				int child = edge.getValue();
+				failure[child] = transitions[failure[state] * alphabetSize + symbol];
+				transitions[state * alphabetSize + symbol] = child;
+				nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+				queue.add(child);
+			}
+		}
+
+		int[][] outputs = new int[stateCount][];
+		for (int state = 0; state < stateCount; state++) {
+			List<Integer> stateOutputs = nodeOutputs.get(state);
+			outputs[state] = stateOutputs.isEmpty() ? NO_OUTPUT
+				: stateOutputs.stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		return new KeywordMatcher(List.copyOf(types),
+			keywordTypes.stream().mapToInt(Integer::intValue).toArray(),
+			keywordLengths.stream().mapToInt(Integer::intValue).toArray(),
+			alphabetIndex, alphabetSize, transitions, outputs);
+	}
+
+	public List<String> getTypes() {
+		return types;
+	}
+
+	/**
+	 * 본문을 한 번 훑어 유형별 키워드 등장 횟수 계산
+	 *
+	 * @return getTypes() 순서의 유형별 점수
+	 */
+	public int[] countByType(String text) {
+		int[] counts = new int[types.size()];
+		if (text == null || text.isEmpty()) {
+			return counts;
+		}
+
+		// 같은 키워드가 겹쳐서 등장하면 한 번만 집계 (indexOf 후 키워드 길이만큼 건너뛰던 방식과 동일)
+		int[] nextAllowedStart = new int[keywordType.length];
+		int state = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			state = transitions[state * alphabetSize + alphabetIndex[text.charAt(i)]];
+			for (int keyword : outputs[state]) {
+				int start = i - keywordLength[keyword] + 1;
+				if (start >= nextAllowedStart[keyword]) {
+					counts[keywordType[keyword]]++;
+					nextAllowedStart[keyword] = i + 1;
+				}
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * 점수가 가장 높은 유형 번호 (동점이면 앞선 유형)
+	 */
+	public static int indexOfMax(int[] counts) {
+		int best = 0;
+		for (int i = 1; i < counts.length; i++) {
+			if (counts[i] > counts[best]) {
+				best = i;
+			}
+		}
+		return best;
+	}
+}
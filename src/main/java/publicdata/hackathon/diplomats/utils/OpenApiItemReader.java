@@ -0,0 +1,365 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공공데이터 API 응답 스트리밍 읽기
+ * 응답 전체를 객체로 만들지 않고 response.body.items.item 배열을 한 건씩 읽어서 batchSize 단위로 넘김
+ * (피드 크기와 상관없이 메모리에는 한 묶음만 유지)
+ *
+ * 외부 API 호출 공통 처리
+ * - 연결 실패, 5xx, 429 응답은 지터를 준 지수 백오프로 재시도 (이미 넘긴 묶음이 있으면 중복 저장을 막기 위해 재시도하지 않음)
+ * - 호스트별 동시 요청 수 제한 (bulkhead) - 한도를 넘으면 정해진 시간만 기다리고 실패
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenApiItemReader {
+
+	private static final String SUCCESS_CODE = "0";
+
+	private final RestTemplate restTemplate;
+	private final ObjectMapper objectMapper;
+	private final ThreadPoolTaskExecutor openApiPageExecutor;
+
+	// 호스트 -> 동시 요청 허용 수
+	private final Map<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+	@Value("${diplomats.ingestion.batch-size:500}")
+	private int batchSize;
+
+	@Value("${diplomats.http.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${diplomats.http.retry-backoff-ms:500}")
+	private long retryBackoffMs;
+
+	@Value("${diplomats.http.max-concurrency-per-host:6}")
+	private int maxConcurrencyPerHost;
+
+	@Value("${diplomats.http.bulkhead-wait-ms:60000}")
+	private long bulkheadWaitMs;
+
+	// 피드 하나에서 동시에 조회하는 페이지 수
+	@Value("${diplomats.ingestion.page-concurrency:4}")
+	private int pageConcurrency;
+
+	/**
+	 * API를 호출해 item을 batchSize 단위로 처리
+	 *
+	 * @return 읽은 item 수
+	 */
+	public <T> int fetch(String url, Class<T> itemType, Consumer<List<T>> chunkHandler) {
+		// 묶음을 한 번이라도 넘겼으면 재시도하지 않음
+		boolean[] delivered = new boolean[1];
+		Consumer<List<T>> trackingHandler = chunk -> {
+			delivered[0] = true;
+			chunkHandler.accept(chunk);
+		};
+		Integer count = execute(url, response -> read(response.getBody(), itemType, trackingHandler),
+			() -> !delivered[0]);
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * 여러 페이지를 병렬로 조회해서 페이지 순서대로 처리
+	 * 1페이지의 totalCount로 페이지 수를 정하고, 나머지 페이지는 pageConcurrency개씩 미리 받아 둠
+	 * pageHandler는 호출한 스레드에서 실행 (호출한 쪽 트랜잭션 안에서 저장)
+	 *
+	 * @param pageUrl 페이지 번호(1부터) -> 요청 URL
+	 * @return 읽은 item 수
+	 */
+	public <T> int fetchPages(IntFunction<String> pageUrl, int pageSize, int maxPages, Class<T> itemType,
+		Consumer<List<T>> pageHandler) {
+		FetchedPage<T> firstPage = fetchPage(pageUrl.apply(1), itemType);
+		int pageCount = firstPage.totalCount() >= 0
+			? (firstPage.totalCount() + pageSize - 1) / pageSize
+			// totalCount가 없으면 첫 페이지가 가득 찬 경우에만 다음 페이지 조회
+			: (firstPage.items().size() < pageSize ? 1 : maxPages);
+		pageCount = Math.max(1, Math.min(pageCount, maxPages));
+
+		int fetchedCount = firstPage.items().size();
+		if (!firstPage.items().isEmpty()) {
+			pageHandler.accept(firstPage.items());
+		}
+
+		Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+		int nextPage = 2;
+		try {
+			while (nextPage <= pageCount && inFlight.size() < pageConcurrency) {
+				inFlight.add(fetchPageAsync(pageUrl.apply(nextPage++), itemType));
+			}
+			while (!inFlight.isEmpty()) {
+				// get()은 join()과 달리 인터럽트에 반응 - 수집 제한 시간이 지나 취소되면 남은 페이지를 처리하지 않고 멈춤
+				// 이미 받아 둔 페이지는 get()이 인터럽트를 확인하지 않으므로 직접 확인
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+				List<T> items = inFlight.poll().get();
+				if (nextPage <= pageCount) {
+					inFlight.add(fetchPageAsync(pageUrl.apply(nextPage++), itemType));
+				}
+				if (!items.isEmpty()) {
+					fetchedCount += items.size();
+					pageHandler.accept(items);
+				}
+			}
+		} catch (ExecutionException | CompletionException e) {
+			inFlight.forEach(future -> future.cancel(true));
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("API 페이지 조회 실패: " + e.getCause().getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			inFlight.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("API 페이지 조회가 중단되었습니다.", e);
+		} catch (RuntimeException e) {
+			inFlight.forEach(future -> future.cancel(true));
+			throw e;
+		}
+		return fetchedCount;
+	}
+
+	private <T> CompletableFuture<List<T>> fetchPageAsync(String url, Class<T> itemType) {
+		return CompletableFuture.supplyAsync(() -> fetchPage(url, itemType).items(), openApiPageExecutor);
+	}
+
+	/**
+	 * 한 페이지를 메모리에 모두 읽음 (받아 둔 뒤에 처리하므로 언제든 재시도 가능)
+	 */
+	private <T> FetchedPage<T> fetchPage(String url, Class<T> itemType) {
+		return execute(url, response -> {
+			List<T> items = new ArrayList<>();
+			ReadState<T> state = readState(response.getBody(), itemType, items::addAll);
+			return new FetchedPage<>(items, state.totalCount);
+		}, () -> true);
+	}
+
+	/**
+	 * 호스트별 동시 요청 제한 안에서 호출, 일시적인 실패는 백오프 후 재시도
+	 */
+	private <R> R execute(String url, ResponseExtractor<R> extractor, BooleanSupplier retryable) {
+		UriComponents uri = UriComponentsBuilder.fromUriString(url).build();
+		String host = uri.getHost() != null ? uri.getHost() : "";
+		// serviceKey가 로그에 남지 않도록 경로만 기록
+		String target = host + uri.getPath();
+		Semaphore permits = bulkheads.computeIfAbsent(host, key -> new Semaphore(maxConcurrencyPerHost, true));
+
+		for (int attempt = 1; ; attempt++) {
+			acquire(permits, host);
+			try {
+				return restTemplate.execute(url, HttpMethod.GET, null, extractor);
+			} catch (ResourceAccessException | HttpServerErrorException | HttpClientErrorException.TooManyRequests e) {
+				if (attempt >= maxAttempts || !retryable.getAsBoolean()) {
+					throw e;
+				}
+				log.warn("API 호출 실패, 재시도 ({}/{}): {} - {}", attempt, maxAttempts, target, e.getMessage());
+			} finally {
+				permits.release();
+			}
+			sleep(backoffMillis(attempt));
+		}
+	}
+
+	private void acquire(Semaphore permits, String host) {
+		try {
+			if (!permits.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("외부 API 동시 요청 한도 초과: " + host);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("외부 API 호출 대기 중 중단되었습니다.", e);
+		}
+	}
+
+	/**
+	 * 지수 백오프에 지터 적용 - 대기 시간의 절반은 고정, 나머지 절반은 무작위
+	 */
+	private long backoffMillis(int attempt) {
+		long ceiling = retryBackoffMs << Math.min(attempt - 1, 10);
+		return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("외부 API 재시도 대기 중 중단되었습니다.", e);
+		}
+	}
+
+	/**
+	 * {"response": {"header": {...}, "body": {"items": {"item": [...]}}}} 형태의 응답 읽기
+	 * resultCode가 "0"이 아니면 예외 (이미 넘긴 묶음은 호출한 쪽 트랜잭션에서 롤백)
+	 */
+	public <T> int read(InputStream body, Class<T> itemType, Consumer<List<T>> chunkHandler) throws IOException {
+		return readState(body, itemType, chunkHandler).count;
+	}
+
+	private <T> ReadState<T> readState(InputStream body, Class<T> itemType, Consumer<List<T>> chunkHandler)
+		throws IOException {
+		ObjectReader itemReader = objectMapper.readerFor(itemType)
+			.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		ReadState<T> state = new ReadState<>(itemReader, chunkHandler);
+
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalStateException("API 응답이 올바르지 않습니다.");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				if ("response".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+					readResponse(parser, state);
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+
+		if (!SUCCESS_CODE.equals(state.resultCode)) {
+			throw new IllegalStateException("API 응답이 올바르지 않습니다. resultCode=" + state.resultCode);
+		}
+		state.flush();
+		return state;
+	}
+
+	private <T> void readResponse(JsonParser parser, ReadState<T> state) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			if ("header".equals(field)) {
+				JsonNode header = parser.readValueAsTree();
+				state.resultCode = header != null ? header.path("resultCode").asText(null) : null;
+			} else if ("body".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+				readBody(parser, state);
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	private <T> void readBody(JsonParser parser, ReadState<T> state) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			// 결과가 없으면 items가 빈 문자열로 오는 경우가 있음
+			if ("items".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+				readItems(parser, state);
+			} else if ("totalCount".equals(field)) {
+				state.totalCount = parseTotalCount(parser);
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	// API에 따라 숫자 또는 문자열("123")로 옴, 읽을 수 없으면 -1
+	private int parseTotalCount(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT) {
+			return parser.getIntValue();
+		}
+		if (token == JsonToken.VALUE_STRING) {
+			try {
+				return Integer.parseInt(parser.getText().trim());
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+		parser.skipChildren();
+		return -1;
+	}
+
+	private <T> void readItems(JsonParser parser, ReadState<T> state) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+			if (!"item".equals(field)) {
+				parser.skipChildren();
+			} else if (token == JsonToken.START_ARRAY) {
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					state.add(parser);
+				}
+			} else if (token == JsonToken.START_OBJECT) {
+				// 결과가 한 건이면 배열이 아닌 객체로 오는 경우
+				state.add(parser);
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	private final class ReadState<T> {
+		private final ObjectReader itemReader;
+		private final Consumer<List<T>> chunkHandler;
+		private List<T> chunk = new ArrayList<>(batchSize);
+		private String resultCode;
+		private int count;
+		private int totalCount = -1;
+
+		private ReadState(ObjectReader itemReader, Consumer<List<T>> chunkHandler) {
+			this.itemReader = itemReader;
+			this.chunkHandler = chunkHandler;
+		}
+
+		private void add(JsonParser parser) throws IOException {
+			chunk.add(itemReader.readValue(parser));
+			count++;
+			if (chunk.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		private void flush() {
+			if (chunk.isEmpty()) {
+				return;
+			}
+			chunkHandler.accept(chunk);
+			chunk = new ArrayList<>(batchSize);
+		}
+	}
+
+	private record FetchedPage<T>(List<T> items, int totalCount) {
+	}
+}
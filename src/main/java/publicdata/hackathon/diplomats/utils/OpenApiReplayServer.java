@@ -0,0 +1,232 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공공데이터 API 리플레이 스텁 (replay 프로필 전용)
+ * 녹화해 둔 API 응답을 로컬 HTTP 서버로 돌려줘서 외부망 없이 수집 처리량을 측정할 수 있게 함
+ *
+ * - 녹화 파일: recordings-dir/{엔드포인트 마지막 경로}.json (예: getPressRls.json, getPublicDiplomacyBusinessInfoList.json)
+ *   실제 API 응답을 그대로 저장한 파일이며 response.body.items.item만 사용
+ * - enlarge-factor: item을 N배로 복제 (복제본은 제목에 번호를 붙여 서로 다른 항목이 되도록 함)
+ * - pageNo, numOfRows 파라미터대로 잘라서 totalCount와 함께 응답
+ * - latency-ms(+ 무작위 latency-jitter-ms) 만큼 지연, error-rate 확률로 error-status 응답
+ */
+@Component
+@Profile("replay")
+@RequiredArgsConstructor
+@Slf4j
+public class OpenApiReplayServer {
+
+	// 복제할 때 번호를 붙이는 식별 필드 (보도자료/ODA 제목, 공공외교 사업명)
+	private static final Set<String> IDENTITY_FIELDS = Set.of("title", "kor_business_nm", "projectTitle");
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${diplomats.replay.port:18089}")
+	private int port;
+
+	@Value("${diplomats.replay.recordings-dir:replay}")
+	private String recordingsDir;
+
+	@Value("${diplomats.replay.enlarge-factor:1}")
+	private int enlargeFactor;
+
+	@Value("${diplomats.replay.latency-ms:0}")
+	private long latencyMs;
+
+	@Value("${diplomats.replay.latency-jitter-ms:0}")
+	private long latencyJitterMs;
+
+	@Value("${diplomats.replay.error-rate:0.0}")
+	private double errorRate;
+
+	@Value("${diplomats.replay.error-status:503}")
+	private int errorStatus;
+
+	@Value("${diplomats.replay.threads:16}")
+	private int threads;
+
+	// 엔드포인트 이름 -> item 목록
+	private final Map<String, List<JsonNode>> recordings = new HashMap<>();
+
+	private HttpServer server;
+	private ExecutorService executor;
+
+	@PostConstruct
+	public void start() throws IOException {
+		loadRecordings(Paths.get(recordingsDir));
+
+		server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+		executor = Executors.newFixedThreadPool(threads);
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+		server.start();
+		log.info("공공데이터 API 리플레이 스텁 시작: http://localhost:{} (엔드포인트 {}, 배율 {}, 지연 {}ms, 오류율 {})",
+			port, recordings.keySet(), enlargeFactor, latencyMs, errorRate);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (server != null) {
+			server.stop(0);
+		}
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	private void loadRecordings(Path directory) throws IOException {
+		if (!Files.isDirectory(directory)) {
+			log.warn("리플레이 녹화 디렉토리가 없습니다: {}", directory.toAbsolutePath());
+			return;
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.filter(path -> path.toString().endsWith(".json")).toList()) {
+				String fileName = file.getFileName().toString();
+				String endpoint = fileName.substring(0, fileName.length() - ".json".length());
+				List<JsonNode> items = enlarge(extractItems(objectMapper.readTree(file.toFile())));
+				recordings.put(endpoint, items);
+				log.info("리플레이 녹화 로드: {} ({}개)", endpoint, items.size());
+			}
+		}
+	}
+
+	private List<JsonNode> extractItems(JsonNode recording) {
+		JsonNode item = recording.path("response").path("body").path("items").path("item");
+		List<JsonNode> items = new ArrayList<>();
+		if (item.isArray()) {
+			item.forEach(items::add);
+		} else if (item.isObject()) {
+			items.add(item);
+		}
+		return items;
+	}
+
+	private List<JsonNode> enlarge(List<JsonNode> items) {
+		if (enlargeFactor <= 1) {
+			return items;
+		}
+		List<JsonNode> enlarged = new ArrayList<>(items.size() * enlargeFactor);
+		enlarged.addAll(items);
+		for (int copy = 1; copy < enlargeFactor; copy++) {
+			for (JsonNode item : items) {
+				ObjectNode duplicate = item.deepCopy();
+				for (String field : IDENTITY_FIELDS) {
+					if (duplicate.hasNonNull(field)) {
+						duplicate.put(field, duplicate.get(field).asText() + " #" + copy);
+					}
+				}
+				enlarged.add(duplicate);
+			}
+		}
+		return enlarged;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			delay();
+
+			if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				respond(exchange, errorStatus, "{\"error\":\"injected\"}");
+				return;
+			}
+
+			String path = exchange.getRequestURI().getPath();
+			String endpoint = path.substring(path.lastIndexOf('/') + 1);
+			List<JsonNode> items = recordings.get(endpoint);
+			if (items == null) {
+				respond(exchange, 404, "{\"error\":\"no recording for " + endpoint + "\"}");
+				return;
+			}
+
+			Map<String, String> params = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build()
+				.getQueryParams().toSingleValueMap();
+			int pageNo = parsePositive(params.get("pageNo"), 1);
+			int numOfRows = parsePositive(params.get("numOfRows"), 10);
+			respond(exchange, 200, objectMapper.writeValueAsString(page(items, pageNo, numOfRows)));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private ObjectNode page(List<JsonNode> items, int pageNo, int numOfRows) {
+		long from = Math.min((long)(pageNo - 1) * numOfRows, items.size());
+		long to = Math.min(from + numOfRows, items.size());
+
+		ObjectNode root = objectMapper.createObjectNode();
+		ObjectNode response = root.putObject("response");
+		ObjectNode header = response.putObject("header");
+		header.put("resultCode", "0");
+		header.put("resultMsg", "NORMAL SERVICE");
+		ObjectNode body = response.putObject("body");
+		ArrayNode pageItems = body.putObject("items").putArray("item");
+		items.subList((int)from, (int)to).forEach(pageItems::add);
+		body.put("numOfRows", numOfRows);
+		body.put("pageNo", pageNo);
+		body.put("totalCount", items.size());
+		return root;
+	}
+
+	private void delay() {
+		long millis = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0);
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(bytes);
+		}
+	}
+
+	private int parsePositive(String value, int defaultValue) {
+		try {
+			int parsed = Integer.parseInt(value);
+			return parsed > 0 ? parsed : defaultValue;
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+}
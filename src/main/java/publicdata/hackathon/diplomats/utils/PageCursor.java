@@ -0,0 +1,67 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import publicdata.hackathon.diplomats.exception.CustomException;
+import publicdata.hackathon.diplomats.exception.ErrorCode;
+
+/**
+ * 커서 기반 목록 조회용 커서 (정렬 키, id)
+ * 클라이언트에는 Base64 문자열로만 내려주고, 다음 요청에서 마지막으로 본 글 이후부터 조회하는 데 사용
+ */
+public record PageCursor(String sortKey, Long id) {
+
+	private static final String SEPARATOR = "|";
+
+	// 첫 페이지 조회시 사용하는 시작 값 (모든 글보다 큰 값)
+	public static final LocalDateTime MAX_DATE_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+	public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+	public static String encode(Object sortKey, Long id) {
+		String raw = sortKey + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return 커서가 비어 있으면 null (첫 페이지)
+	 */
+	public static PageCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separatorIndex = raw.lastIndexOf(SEPARATOR);
+			return new PageCursor(raw.substring(0, separatorIndex), Long.parseLong(raw.substring(separatorIndex + 1)));
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+		}
+	}
+
+	public LocalDateTime sortKeyAsDateTime() {
+		try {
+			return LocalDateTime.parse(sortKey);
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "정렬 기준과 맞지 않는 커서입니다.");
+		}
+	}
+
+	public LocalDate sortKeyAsDate() {
+		try {
+			return LocalDate.parse(sortKey);
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "정렬 기준과 맞지 않는 커서입니다.");
+		}
+	}
+
+	public int sortKeyAsInt() {
+		try {
+			return Integer.parseInt(sortKey);
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT, "정렬 기준과 맞지 않는 커서입니다.");
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로드 디렉토리 구조
+ * 한 디렉토리에 파일이 몰리지 않도록 파일명 앞 4자리(16진수)로 2단계 하위 디렉토리를 둠
+ * 예) uploads/blobs/3f2a.....jpg -> uploads/blobs/3f/2a/3f2a.....jpg
+ *
+ * 파일명은 UUID 또는 SHA-256이라 앞자리가 고르게 퍼지고, 변환본({이름}_thumb.jpg)도 원본과 같은 디렉토리에 들어감
+ * 기존 평면 구조(uploads/freeboard/{파일명})는 UploadLayoutMigrationService가 옮기는 동안 함께 사용
+ */
+public final class UploadLayout {
+
+	// 업로드 파일을 두는 디렉토리 (uploads/default 같은 정적 파일 디렉토리는 제외)
+	public static final List<String> DIRECTORIES = List.of(
+		"uploads/freeboard/",
+		"uploads/discussboard/",
+		"uploads/diary/",
+		ContentAddressedStore.BLOB_DIR
+	);
+
+	private static final String UPLOAD_ROOT = "uploads/";
+
+	private UploadLayout() {
+	}
+
+	/**
+	 * 파일명의 하위 디렉토리 (예: "3f/2a/")
+	 * 앞 4자리가 16진수가 아닌 이름은 이름의 해시 앞 4자리 사용
+	 */
+	public static String shardOf(String fileName) {
+		String baseName = baseNameOf(fileName).toLowerCase(Locale.ROOT);
+		String prefix = baseName.length() >= 4 && isHex(baseName.substring(0, 4))
+			? baseName.substring(0, 4)
+			: sha256Hex(baseName).substring(0, 4);
+		return prefix.substring(0, 2) + "/" + prefix.substring(2, 4) + "/";
+	}
+
+	/**
+	 * 새 구조의 경로 (예: "uploads/blobs/3f/2a/3f2a...jpg")
+	 */
+	public static String shardedPath(String directory, String fileName) {
+		return directory + shardOf(fileName) + fileName;
+	}
+
+	/**
+	 * 기존 평면 구조의 경로 (예: "uploads/freeboard/{uuid}.jpg")
+	 */
+	public static String flatPath(String directory, String fileName) {
+		return directory + fileName;
+	}
+
+	/**
+	 * 업로드 URL 경로(uploads/ 기준)를 다른 구조의 경로로 변환 - 리소스 핸들러가 옮기기 전/후 파일을 모두 찾도록
+	 * "blobs/3f2a...jpg" <-> "blobs/3f/2a/3f2a...jpg", 업로드 디렉토리가 아니거나 형식이 다르면 null
+	 */
+	public static String alternatePath(String requestPath) {
+		for (String directory : DIRECTORIES) {
+			String prefix = directory.substring(UPLOAD_ROOT.length());
+			if (!requestPath.startsWith(prefix)) {
+				continue;
+			}
+			String rest = requestPath.substring(prefix.length());
+			if (rest.isEmpty()) {
+				return null;
+			}
+			if (rest.indexOf('/') < 0) {
+				return prefix + shardOf(rest) + rest;
+			}
+			int lastSlash = rest.lastIndexOf('/');
+			String fileName = rest.substring(lastSlash + 1);
+			if (!fileName.isEmpty() && rest.substring(0, lastSlash + 1).equals(shardOf(fileName))) {
+				return prefix + fileName;
+			}
+			return null;
+		}
+		return null;
+	}
+
+	// 확장자와 변환본 접미사를 뺀 이름 (원본과 변환본이 같은 하위 디렉토리에 들어가도록)
+	private static String baseNameOf(String fileName) {
+		int end = fileName.length();
+		int dot = fileName.indexOf('.');
+		if (dot > 0) {
+			end = dot;
+		}
+		int underscore = fileName.lastIndexOf('_', end - 1);
+		if (underscore > 0) {
+			end = underscore;
+		}
+		return fileName.substring(0, end);
+	}
+
+	private static boolean isHex(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (Character.digit(value.charAt(i), 16) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String sha256Hex(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package publicdata.hackathon.diplomats.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 파일 존재 여부 인덱스
+ * 상세 조회에서 이미지마다 파일 시스템을 확인하지 않도록 업로드 디렉토리의 파일 경로를 메모리에 보관
+ *
+ * - 시작 시 FileSystemHealthCheck가 디렉토리를 훑어 채움 (그 전에는 파일 시스템을 직접 확인)
+ * - 저장/삭제 시 FileStorageUtil, ContentAddressedStore가, 하위 디렉토리로 옮길 때 UploadLayoutMigrationService가 바로 반영
+ * - 서버 밖에서 파일이 바뀐 경우를 위해 주기적으로 다시 훑어서 차이만 맞춤
+ */
+@Slf4j
+@Component
+public class UploadPresenceIndex {
+
+	// 업로드 디렉토리 아래 하위 디렉토리(ab/cd/)까지의 깊이
+	private static final int SCAN_DEPTH = 3;
+
+	// "uploads/blobs/3f/2a/{파일명}" 또는 평면 구조 "uploads/freeboard/{파일명}" 형태의 상대 경로
+	private final Set<String> paths = ConcurrentHashMap.newKeySet();
+	private volatile boolean ready;
+
+	/**
+	 * 인덱스가 이 경로의 존재 여부를 알고 있는지 (업로드 디렉토리의 파일 경로이고 초기 스캔이 끝난 경우)
+	 */
+	public boolean covers(String path) {
+		return ready && directoryOf(path) != null;
+	}
+
+	public boolean contains(String path) {
+		return paths.contains(path);
+	}
+
+	public void added(String path) {
+		paths.add(path);
+	}
+
+	public void removed(String path) {
+		paths.remove(path);
+	}
+
+	/**
+	 * 디렉토리를 훑어서 인덱스를 맞춤
+	 * 스캔 중에 저장/삭제된 파일이 뒤집히지 않도록 전체를 교체하지 않고, 차이 나는 항목만 다시 확인해서 반영
+	 */
+	public synchronized void reconcile() {
+		Set<String> scanned = new HashSet<>();
+		Set<String> scannedDirectories = new HashSet<>();
+		for (String directory : UploadLayout.DIRECTORIES) {
+			Path root = Paths.get(directory);
+			try (Stream<Path> files = Files.walk(root, SCAN_DEPTH)) {
+				files.filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+					.filter(Files::isRegularFile)
+					.forEach(file -> scanned.add(directory + root.relativize(file).toString().replace('\\', '/')));
+				scannedDirectories.add(directory);
+			} catch (IOException | UncheckedIOException e) {
+				log.warn("업로드 디렉토리 스캔 실패, 이 디렉토리는 기존 인덱스 유지: {}", directory);
+			}
+		}
+
+		int added = 0;
+		for (String path : scanned) {
+			if (!paths.contains(path) && Files.exists(Paths.get(path))) {
+				paths.add(path);
+				added++;
+			}
+		}
+		int removed = 0;
+		for (String path : paths) {
+			if (!scanned.contains(path) && scannedDirectories.contains(directoryOf(path))
+				&& !Files.exists(Paths.get(path))) {
+				paths.remove(path);
+				removed++;
+			}
+		}
+
+		boolean initial = !ready;
+		ready = true;
+		if (initial) {
+			log.info("업로드 파일 인덱스 생성: {}개", paths.size());
+		} else if (added > 0 || removed > 0) {
+			log.info("업로드 파일 인덱스 보정: 추가 {}개, 제거 {}개 (전체 {}개)", added, removed, paths.size());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${diplomats.upload-index.reconcile-interval-ms:3600000}",
+		initialDelayString = "${diplomats.upload-index.reconcile-interval-ms:3600000}")
+	public void scheduledReconcile() {
+		if (ready) {
+			reconcile();
+		}
+	}
+
+	private String directoryOf(String path) {
+		if (path == null) {
+			return null;
+		}
+		for (String directory : UploadLayout.DIRECTORIES) {
+			if (!path.startsWith(directory) || path.length() == directory.length()) {
+				continue;
+			}
+			String rest = path.substring(directory.length());
+			int lastSlash = rest.lastIndexOf('/');
+			// 평면 구조이거나, 파일명에 맞는 하위 디렉토리 아래 파일만 인덱스 대상
+			if (lastSlash < 0 || rest.substring(0, lastSlash + 1).equals(UploadLayout.shardOf(rest.substring(lastSlash + 1)))) {
+				return directory;
+			}
+			return null;
+		}
+		return null;
+	}
+}
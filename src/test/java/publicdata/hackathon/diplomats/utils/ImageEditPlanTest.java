@@ -0,0 +1,126 @@
+package publicdata.hackathon.diplomats.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import publicdata.hackathon.diplomats.domain.dto.request.ImageEditManifest;
+import publicdata.hackathon.diplomats.exception.CustomException;
+import publicdata.hackathon.diplomats.exception.ErrorCode;
+import publicdata.hackathon.diplomats.utils.ImageEditPlan.Slot;
+
+class ImageEditPlanTest {
+
+	private record Image(Long id, Integer order) {
+	}
+
+	private static final Image FIRST = new Image(10L, 0);
+	private static final Image SECOND = new Image(11L, 1);
+	private static final Image THIRD = new Image(12L, 2);
+	// 저장 순서와 다르게 넘겨도 imageOrder 기준으로 정렬되는지 확인
+	private static final List<Image> EXISTING = List.of(THIRD, FIRST, SECOND);
+
+	@Test
+	void 변경_내역이_비어_있으면_기존_순서_뒤에_새_파일을_붙인다() {
+		ImageEditPlan<Image> plan = plan(manifest(null, null, null), 2, 5);
+
+		assertEquals(List.of(), plan.getRemoved());
+		assertEquals(List.of(existing(FIRST), existing(SECOND), existing(THIRD), newFile(0), newFile(1)),
+			plan.getSlots());
+	}
+
+	@Test
+	void 유지_목록에_없는_기존_이미지는_삭제한다() {
+		ImageEditPlan<Image> plan = plan(manifest(List.of(12L, 10L), null, null), 0, 5);
+
+		assertEquals(List.of(SECOND), plan.getRemoved());
+		assertEquals(List.of(existing(FIRST), existing(THIRD)), plan.getSlots());
+	}
+
+	@Test
+	void 삭제_목록의_이미지만_삭제한다() {
+		ImageEditPlan<Image> plan = plan(manifest(null, List.of(11L), null), 1, 5);
+
+		assertEquals(List.of(SECOND), plan.getRemoved());
+		assertEquals(List.of(existing(FIRST), existing(THIRD), newFile(0)), plan.getSlots());
+	}
+
+	@Test
+	void 같은_이미지를_유지와_삭제에_함께_지정하면_오류() {
+		assertInvalid(() -> plan(manifest(List.of(10L, 11L), List.of(11L), null), 0, 5));
+	}
+
+	@Test
+	void 게시글에_없는_이미지_ID는_오류() {
+		assertInvalid(() -> plan(manifest(List.of(99L), null, null), 0, 5));
+		assertInvalid(() -> plan(manifest(null, List.of(99L), null), 0, 5));
+	}
+
+	@Test
+	void 지정한_순서대로_배치하고_생략한_항목은_뒤에_붙인다() {
+		ImageEditPlan<Image> plan = plan(manifest(null, null, List.of("12", "new:1", "10")), 2, 5);
+
+		// 생략한 기존 이미지(11) 다음에 생략한 새 파일(new:0)
+		assertEquals(List.of(existing(THIRD), newFile(1), existing(FIRST), existing(SECOND), newFile(0)),
+			plan.getSlots());
+	}
+
+	@Test
+	void 새_파일_인덱스가_범위를_벗어나면_오류() {
+		assertInvalid(() -> plan(manifest(null, null, List.of("new:2")), 2, 5));
+		assertInvalid(() -> plan(manifest(null, null, List.of("new:-1")), 2, 5));
+		assertInvalid(() -> plan(manifest(null, null, List.of("new:0")), 0, 5));
+		assertInvalid(() -> plan(manifest(null, null, List.of("new:abc")), 1, 5));
+	}
+
+	@Test
+	void 순서에_같은_항목이_두_번_있으면_오류() {
+		assertInvalid(() -> plan(manifest(null, null, List.of("10", "10")), 0, 5));
+		assertInvalid(() -> plan(manifest(null, null, List.of("new:0", "new:0")), 1, 5));
+	}
+
+	@Test
+	void 삭제하는_이미지나_잘못된_항목은_순서에_넣을_수_없다() {
+		assertInvalid(() -> plan(manifest(null, List.of(11L), List.of("11")), 0, 5));
+		assertInvalid(() -> plan(manifest(null, null, List.of("abc")), 0, 5));
+	}
+
+	@Test
+	void 최대_이미지_수를_넘으면_오류() {
+		// 기존 3장 + 새 파일 3장 > 5장
+		assertInvalid(() -> plan(manifest(null, null, null), 3, 5));
+
+		// 한 장을 지우면 5장으로 통과
+		ImageEditPlan<Image> plan = plan(manifest(null, List.of(10L), null), 3, 5);
+		assertEquals(5, plan.getSlots().size());
+	}
+
+	private static ImageEditPlan<Image> plan(ImageEditManifest manifest, int newCount, int maxImages) {
+		return ImageEditPlan.of(manifest, EXISTING, Image::id, Image::order, newCount, maxImages);
+	}
+
+	private static ImageEditManifest manifest(List<Long> keepImageIds, List<Long> deleteImageIds,
+		List<String> imageOrder) {
+		ImageEditManifest manifest = new ImageEditManifest();
+		manifest.setKeepImageIds(keepImageIds);
+		manifest.setDeleteImageIds(deleteImageIds);
+		manifest.setImageOrder(imageOrder);
+		return manifest;
+	}
+
+	private static Slot<Image> existing(Image image) {
+		return new Slot<>(image, null);
+	}
+
+	private static Slot<Image> newFile(int index) {
+		return new Slot<>(null, index);
+	}
+
+	private static void assertInvalid(Runnable edit) {
+		CustomException exception = assertThrows(CustomException.class, edit::run);
+		assertEquals(ErrorCode.INVALID_INPUT, exception.getErrorCode());
+	}
+}
@@ -0,0 +1,140 @@
+package publicdata.hackathon.diplomats.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class ImageResizerTest {
+
+	private static final int WIDTH = 3;
+	private static final int HEIGHT = 2;
+
+	@Test
+	void Exif_회전_값을_읽는다() {
+		for (int orientation = 1; orientation <= 8; orientation++) {
+			assertEquals(orientation, ImageResizer.readExifOrientation(jpegWithOrientation(orientation, false)));
+			assertEquals(orientation, ImageResizer.readExifOrientation(jpegWithOrientation(orientation, true)));
+		}
+	}
+
+	@Test
+	void 회전_정보가_없거나_잘못되면_1() {
+		// JPEG가 아님 (PNG 시그니처)
+		assertEquals(1, ImageResizer.readExifOrientation(new byte[] {(byte)0x89, 'P', 'N', 'G', 0, 0}));
+		// Exif 세그먼트 없이 바로 이미지 데이터
+		assertEquals(1, ImageResizer.readExifOrientation(bytes(0xFF, 0xD8, 0xFF, 0xDA, 0x00, 0x02)));
+		// 범위를 벗어난 값
+		assertEquals(1, ImageResizer.readExifOrientation(jpegWithOrientation(9, false)));
+		assertEquals(1, ImageResizer.readExifOrientation(new byte[0]));
+	}
+
+	@Test
+	void 잘린_Exif_세그먼트는_1() {
+		byte[] jpeg = jpegWithOrientation(6, false);
+		for (int length = 0; length < jpeg.length; length++) {
+			int orientation = ImageResizer.readExifOrientation(Arrays.copyOf(jpeg, length));
+			// Orientation 항목(12바이트, 34번째 바이트까지)이 모두 있어야 값을 읽음
+			assertEquals(length >= 34 ? 6 : 1, orientation, "length=" + length);
+		}
+	}
+
+	@Test
+	void 회전이_없으면_원본을_그대로_반환() {
+		BufferedImage image = numberedImage();
+
+		assertSame(image, ImageResizer.applyOrientation(image, 1));
+		assertSame(image, ImageResizer.applyOrientation(image, 0));
+		assertSame(image, ImageResizer.applyOrientation(image, 9));
+	}
+
+	@Test
+	void 회전_값대로_픽셀을_옮긴다() {
+		BufferedImage source = numberedImage();
+		for (int orientation = 2; orientation <= 8; orientation++) {
+			BufferedImage rotated = ImageResizer.applyOrientation(source, orientation);
+
+			boolean swap = orientation >= 5;
+			assertEquals(swap ? HEIGHT : WIDTH, rotated.getWidth(), "orientation=" + orientation);
+			assertEquals(swap ? WIDTH : HEIGHT, rotated.getHeight(), "orientation=" + orientation);
+			for (int y = 0; y < rotated.getHeight(); y++) {
+				for (int x = 0; x < rotated.getWidth(); x++) {
+					int[] from = sourcePixel(orientation, x, y);
+					assertEquals(source.getRGB(from[0], from[1]), rotated.getRGB(x, y),
+						"orientation=" + orientation + ", x=" + x + ", y=" + y);
+				}
+			}
+		}
+	}
+
+	@Test
+	void 큰_이미지만_건너뛰며_읽는다() {
+		assertEquals(1, ImageResizer.subsamplingFor(4000L * 3000));
+		assertEquals(1, ImageResizer.subsamplingFor(ImageResizer.MAX_DECODED_PIXELS));
+		assertEquals(2, ImageResizer.subsamplingFor(8000L * 6000));
+		assertEquals(3, ImageResizer.subsamplingFor(ImageResizer.MAX_DECODED_PIXELS * 9));
+	}
+
+	// Exif 규격의 회전 값 - 보여줄 (x, y) 자리에 오는 원본 픽셀
+	private static int[] sourcePixel(int orientation, int x, int y) {
+		return switch (orientation) {
+			case 2 -> new int[] {WIDTH - 1 - x, y};
+			case 3 -> new int[] {WIDTH - 1 - x, HEIGHT - 1 - y};
+			case 4 -> new int[] {x, HEIGHT - 1 - y};
+			case 5 -> new int[] {y, x};
+			case 6 -> new int[] {y, HEIGHT - 1 - x};
+			case 7 -> new int[] {WIDTH - 1 - y, HEIGHT - 1 - x};
+			case 8 -> new int[] {WIDTH - 1 - y, x};
+			default -> new int[] {x, y};
+		};
+	}
+
+	// 픽셀마다 다른 색
+	private static BufferedImage numberedImage() {
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				image.setRGB(x, y, (x * 80) << 16 | (y * 120) << 8 | 0x40);
+			}
+		}
+		return image;
+	}
+
+	// SOI + APP1(Exif, IFD0에 Orientation 하나) + SOS
+	private static byte[] jpegWithOrientation(int orientation, boolean littleEndian) {
+		ByteArrayOutputStream tiff = new ByteArrayOutputStream();
+		if (littleEndian) {
+			write(tiff, 'I', 'I', 0x2A, 0x00, 0x08, 0x00, 0x00, 0x00);
+			write(tiff, 0x01, 0x00);
+			write(tiff, 0x12, 0x01, 0x03, 0x00, 0x01, 0x00, 0x00, 0x00, orientation, 0x00, 0x00, 0x00);
+		} else {
+			write(tiff, 'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08);
+			write(tiff, 0x00, 0x01);
+			write(tiff, 0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, orientation, 0x00, 0x00);
+		}
+		write(tiff, 0x00, 0x00, 0x00, 0x00);
+
+		ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+		int length = 2 + 6 + tiff.size();
+		write(jpeg, 0xFF, 0xD8, 0xFF, 0xE1, length >> 8, length & 0xFF, 'E', 'x', 'i', 'f', 0x00, 0x00);
+		jpeg.writeBytes(tiff.toByteArray());
+		write(jpeg, 0xFF, 0xDA, 0x00, 0x02);
+		return jpeg.toByteArray();
+	}
+
+	private static void write(ByteArrayOutputStream output, int... values) {
+		for (int value : values) {
+			output.write(value);
+		}
+	}
+
+	private static byte[] bytes(int... values) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		write(output, values);
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,125 @@
+package publicdata.hackathon.diplomats.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class KeywordMatcherTest {
+
+	@Test
+	void 겹치는_키워드는_각각_집계한다() {
+		Map<String, List<String>> keywords = Map.of("CLIMATE_ACTION", List.of("탄소", "탄소중립"));
+		String text = "탄소중립과 탄소 감축, 탄소탄소";
+
+		int[] counts = KeywordMatcher.compile(keywords).countByType(text);
+
+		// 탄소 4번 + 탄소중립 1번
+		assertArrayEquals(new int[] {5}, counts);
+		assertArrayEquals(referenceCounts(keywords, text), counts);
+	}
+
+	@Test
+	void 같은_키워드가_겹쳐_등장하면_한_번만_집계한다() {
+		Map<String, List<String>> keywords = Map.of("A", List.of("aa"));
+
+		assertArrayEquals(new int[] {2}, KeywordMatcher.compile(keywords).countByType("aaaa"));
+		assertArrayEquals(new int[] {1}, KeywordMatcher.compile(keywords).countByType("aaa"));
+		assertArrayEquals(referenceCounts(keywords, "aaaaa"), KeywordMatcher.compile(keywords).countByType("aaaaa"));
+	}
+
+	@Test
+	void 여러_유형에_있는_키워드는_유형마다_집계한다() {
+		Map<String, List<String>> keywords = new LinkedHashMap<>();
+		keywords.put("PEACE_MEDIATION", List.of("평화", "외교"));
+		keywords.put("CULTURAL_DIPLOMACY", List.of("외교", "문화"));
+		String text = "외교 외교 문화";
+
+		int[] counts = KeywordMatcher.compile(keywords).countByType(text);
+
+		assertArrayEquals(new int[] {2, 3}, counts);
+		assertArrayEquals(referenceCounts(keywords, text), counts);
+	}
+
+	@Test
+	void 대소문자를_구분한다() {
+		Map<String, List<String>> keywords = Map.of("A", List.of("UN"));
+
+		assertArrayEquals(new int[] {1}, KeywordMatcher.compile(keywords).countByType("un UN Un"));
+	}
+
+	@Test
+	void 빈_본문은_모든_유형이_0점() {
+		Map<String, List<String>> keywords = new LinkedHashMap<>();
+		keywords.put("A", List.of("평화"));
+		keywords.put("B", List.of("문화"));
+		KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+
+		assertArrayEquals(new int[] {0, 0}, matcher.countByType(null));
+		assertArrayEquals(new int[] {0, 0}, matcher.countByType(""));
+		assertArrayEquals(new int[] {0, 0}, matcher.countByType("키워드 없음"));
+	}
+
+	@Test
+	void 임의의_본문에서_기존_indexOf_방식과_같은_점수() {
+		// 글자 종류를 줄여서 겹치는 키워드와 반복 등장이 자주 나오도록 함
+		String alphabet = "탄소중립ab ";
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			Map<String, List<String>> keywords = new LinkedHashMap<>();
+			for (int type = 0; type < 3; type++) {
+				List<String> typeKeywords = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					typeKeywords.add(randomText(random, alphabet, 1 + random.nextInt(4)));
+				}
+				keywords.put("TYPE_" + type, typeKeywords);
+			}
+			String text = randomText(random, alphabet, random.nextInt(200));
+
+			assertArrayEquals(referenceCounts(keywords, text), KeywordMatcher.compile(keywords).countByType(text),
+				"keywords=" + keywords + ", text=" + text);
+		}
+	}
+
+	@Test
+	void 동점이면_앞선_유형을_고른다() {
+		assertEquals(1, KeywordMatcher.indexOfMax(new int[] {1, 3, 3}));
+		assertEquals(0, KeywordMatcher.indexOfMax(new int[] {0, 0}));
+	}
+
+	// 이전 점수 계산 방식 - 키워드마다 indexOf로 겹치지 않게 찾아서 더함
+	private static int[] referenceCounts(Map<String, List<String>> keywordsByType, String text) {
+		List<String> types = new ArrayList<>(keywordsByType.keySet());
+		int[] counts = new int[types.size()];
+		for (int i = 0; i < types.size(); i++) {
+			for (String keyword : keywordsByType.get(types.get(i))) {
+				counts[i] += countOccurrences(text, keyword);
+			}
+		}
+		return counts;
+	}
+
+	private static int countOccurrences(String text, String keyword) {
+		int count = 0;
+		int index = 0;
+		while ((index = text.indexOf(keyword, index)) != -1) {
+			count++;
+			index += keyword.length();
+		}
+		return count;
+	}
+
+	private static String randomText(Random random, String alphabet, int length) {
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return text.toString();
+	}
+}
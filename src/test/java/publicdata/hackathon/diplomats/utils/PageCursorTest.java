@@ -0,0 +1,87 @@
+package publicdata.hackathon.diplomats.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import publicdata.hackathon.diplomats.exception.CustomException;
+import publicdata.hackathon.diplomats.exception.ErrorCode;
+
+class PageCursorTest {
+
+	@Test
+	void 작성일시_커서를_그대로_복원한다() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 9, 30, 0, 123_456_789);
+
+		PageCursor cursor = PageCursor.decode(PageCursor.encode(createdAt, 42L));
+
+		assertEquals(createdAt, cursor.sortKeyAsDateTime());
+		assertEquals(42L, cursor.id());
+	}
+
+	@Test
+	void 초가_0인_작성일시도_복원한다() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 9, 30);
+
+		assertEquals(createdAt, PageCursor.decode(PageCursor.encode(createdAt, 1L)).sortKeyAsDateTime());
+	}
+
+	@Test
+	void 게시일과_숫자_커서를_복원한다() {
+		LocalDate publishDate = LocalDate.of(2025, 1, 31);
+
+		assertEquals(publishDate, PageCursor.decode(PageCursor.encode(publishDate, 7L)).sortKeyAsDate());
+		assertEquals(1523, PageCursor.decode(PageCursor.encode(1523, 7L)).sortKeyAsInt());
+		assertEquals(0, PageCursor.decode(PageCursor.encode(0, 7L)).sortKeyAsInt());
+	}
+
+	@Test
+	void 커서는_URL에_그대로_넣을_수_있다() {
+		String encoded = PageCursor.encode(PageCursor.MAX_DATE_TIME, Long.MAX_VALUE);
+
+		assertFalse(encoded.contains("+") || encoded.contains("/") || encoded.contains("="), encoded);
+	}
+
+	@Test
+	void 비어_있는_커서는_첫_페이지() {
+		assertNull(PageCursor.decode(null));
+		assertNull(PageCursor.decode(""));
+		assertNull(PageCursor.decode("  "));
+	}
+
+	@Test
+	void 형식이_잘못된_커서는_오류() {
+		assertInvalid(() -> PageCursor.decode("!!!"));
+		// 구분자 없음
+		assertInvalid(() -> PageCursor.decode(base64("2025-01-01")));
+		// id가 숫자가 아님
+		assertInvalid(() -> PageCursor.decode(base64("2025-01-01|abc")));
+	}
+
+	@Test
+	void 정렬_기준과_맞지_않는_커서는_오류() {
+		PageCursor dateTimeCursor = PageCursor.decode(PageCursor.encode(LocalDateTime.of(2025, 7, 1, 9, 30), 1L));
+		PageCursor intCursor = PageCursor.decode(PageCursor.encode(10, 1L));
+
+		assertInvalid(dateTimeCursor::sortKeyAsInt);
+		assertInvalid(dateTimeCursor::sortKeyAsDate);
+		assertInvalid(intCursor::sortKeyAsDateTime);
+	}
+
+	private static String base64(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void assertInvalid(Runnable decode) {
+		CustomException exception = assertThrows(CustomException.class, decode::run);
+		assertEquals(ErrorCode.INVALID_INPUT, exception.getErrorCode());
+	}
+}
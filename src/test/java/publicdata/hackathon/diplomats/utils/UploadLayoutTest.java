@@ -0,0 +1,62 @@
+package publicdata.hackathon.diplomats.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class UploadLayoutTest {
+
+	private static final String HASH = "3f2a9c0d5e8b1a7f6c4d2e0b9a8f7e6d5c4b3a29180f7e6d5c4b3a2918070605";
+
+	@Test
+	void 파일명_앞_4자리로_하위_디렉토리를_정한다() {
+		assertEquals("3f/2a/", UploadLayout.shardOf(HASH + ".jpg"));
+		assertEquals("3f/2a/", UploadLayout.shardOf("3F2A1B7C-0D4E-4F5A-9B6C-7D8E9F0A1B2C.png"));
+	}
+
+	@Test
+	void 변환본은_원본과_같은_하위_디렉토리() {
+		assertEquals(UploadLayout.shardOf(HASH + ".jpg"), UploadLayout.shardOf(HASH + "_thumb.jpg"));
+		assertEquals(UploadLayout.shardOf("photo.png"), UploadLayout.shardOf("photo_medium.jpg"));
+	}
+
+	@Test
+	void 앞자리가_16진수가_아니면_이름의_해시로_정한다() {
+		String shard = UploadLayout.shardOf("photo.png");
+
+		assertEquals("55/c6/", shard);
+		assertEquals(shard, UploadLayout.shardOf("photo.png"));
+		assertTrue(UploadLayout.shardOf("ab.png").matches("[0-9a-f]{2}/[0-9a-f]{2}/"));
+	}
+
+	@Test
+	void 평면_구조와_하위_디렉토리_구조_경로() {
+		assertEquals("uploads/blobs/3f/2a/" + HASH + ".jpg", UploadLayout.shardedPath("uploads/blobs/", HASH + ".jpg"));
+		assertEquals("uploads/blobs/" + HASH + ".jpg", UploadLayout.flatPath("uploads/blobs/", HASH + ".jpg"));
+	}
+
+	@Test
+	void 평면_구조_요청은_하위_디렉토리_경로로_바꾼다() {
+		assertEquals("blobs/3f/2a/" + HASH + ".jpg", UploadLayout.alternatePath("blobs/" + HASH + ".jpg"));
+		assertEquals("freeboard/55/c6/photo.png", UploadLayout.alternatePath("freeboard/photo.png"));
+	}
+
+	@Test
+	void 하위_디렉토리_요청은_평면_구조_경로로_바꾼다() {
+		assertEquals("blobs/" + HASH + "_thumb.jpg", UploadLayout.alternatePath("blobs/3f/2a/" + HASH + "_thumb.jpg"));
+		assertEquals("diary/photo.png", UploadLayout.alternatePath("diary/55/c6/photo.png"));
+	}
+
+	@Test
+	void 바꿀_수_없는_경로는_null() {
+		// 파일명과 맞지 않는 하위 디렉토리
+		assertNull(UploadLayout.alternatePath("freeboard/aa/bb/" + HASH + ".jpg"));
+		// 업로드 디렉토리가 아님
+		assertNull(UploadLayout.alternatePath("default/placeholder.png"));
+		// 디렉토리만 있음
+		assertNull(UploadLayout.alternatePath("blobs/"));
+		assertNull(UploadLayout.alternatePath("blobs/3f/2a/"));
+	}
+}